@@ -21,34 +21,44 @@ import com.github.jasminb.jsonapi.models.errors.Error;
 import com.farao_community.farao.gridcapa_core_cc.api.exception.AbstractCoreCCException;
 import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInternalException;
 
+import java.io.InputStream;
+
 /**
  * JSON API conversion component
  * Allows automatic conversion from resources or exceptions towards JSON API formatted bytes.
+ * The underlying resource converter is built once and is thread-safe, so that one instance
+ * can be shared by all the messages of a producer or a consumer.
  *
  * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
  */
 public class JsonApiConverter {
     private final ObjectMapper objectMapper;
+    private final ResourceConverter converter;
 
     public JsonApiConverter() {
         this.objectMapper = createObjectMapper();
         objectMapper.registerModule(new Jdk8Module());
         objectMapper.registerModule(new JavaTimeModule());
+        this.converter = createConverter();
     }
 
     public <T> T fromJsonMessage(byte[] jsonMessage, Class<T> tClass) {
-        ResourceConverter converter = createConverter();
-        T aaa;
         try {
-            aaa = converter.readDocument(jsonMessage, tClass).get();
+            return converter.readDocument(jsonMessage, tClass).get();
+        } catch (Exception e) {
+            throw new CoreCCInvalidDataException("Exception occurred during object conversion", e);
+        }
+    }
+
+    public <T> T fromJsonMessage(InputStream jsonMessage, Class<T> tClass) {
+        try {
+            return converter.readDocument(jsonMessage, tClass).get();
         } catch (Exception e) {
             throw new CoreCCInvalidDataException("Exception occurred during object conversion", e);
         }
-        return aaa;
     }
 
     public <T> byte[] toJsonMessage(T jsonApiObject) {
-        ResourceConverter converter = createConverter();
         JSONAPIDocument<?> jsonapiDocument = new JSONAPIDocument<>(jsonApiObject);
         try {
             return converter.writeDocument(jsonapiDocument);
@@ -58,7 +68,6 @@ public class JsonApiConverter {
     }
 
     public byte[] toJsonMessage(AbstractCoreCCException exception) {
-        ResourceConverter converter = createConverter();
         JSONAPIDocument<?> jsonapiDocument = new JSONAPIDocument<>(convertExceptionToJsonError(exception));
         try {
             return converter.writeDocument(jsonapiDocument);
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.api;
+
+import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a shared {@link JsonApiConverter} with one created for each message, which is what producers
+ * and consumers did before the resource converter was cached. Benchmarks run on several threads,
+ * as the shared converter is used concurrently by the listener.
+ * <p>
+ * Not run by surefire: launch the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JsonApiConverterBenchmark {
+
+    private JsonApiConverter sharedConverter;
+    private byte[] jsonMessage;
+    private CoreCCRequest coreCCRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("/validRequest.json")) {
+            jsonMessage = inputStream.readAllBytes();
+        }
+        sharedConverter = new JsonApiConverter();
+        coreCCRequest = sharedConverter.fromJsonMessage(jsonMessage, CoreCCRequest.class);
+    }
+
+    @Benchmark
+    public CoreCCRequest decodeWithNewConverter() {
+        return new JsonApiConverter().fromJsonMessage(jsonMessage, CoreCCRequest.class);
+    }
+
+    @Benchmark
+    public CoreCCRequest decodeWithSharedConverter() {
+        return sharedConverter.fromJsonMessage(jsonMessage, CoreCCRequest.class);
+    }
+
+    @Benchmark
+    public CoreCCRequest decodeStreamWithSharedConverter() {
+        return sharedConverter.fromJsonMessage(new ByteArrayInputStream(jsonMessage), CoreCCRequest.class);
+    }
+
+    @Benchmark
+    public byte[] encodeWithNewConverter() {
+        return new JsonApiConverter().toJsonMessage(coreCCRequest);
+    }
+
+    @Benchmark
+    public byte[] encodeWithSharedConverter() {
+        return sharedConverter.toJsonMessage(coreCCRequest);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonApiConverterBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -14,9 +14,16 @@ import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCRequest;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,6 +45,33 @@ class JsonApiConverterTest {
         assertEquals("https://glsk/file/url", coreCCRequest.getGlsk().getUrl());
     }
 
+    @Test
+    void checkCoreCCInputsJsonConversionFromStream() throws IOException {
+        JsonApiConverter jsonApiConverter = new JsonApiConverter();
+        try (InputStream inputMessage = getClass().getResourceAsStream("/validRequest.json")) {
+            CoreCCRequest coreCCRequest = jsonApiConverter.fromJsonMessage(inputMessage, CoreCCRequest.class);
+            assertEquals("id", coreCCRequest.getId());
+            assertEquals("cgm.txt", coreCCRequest.getCgm().getFilename());
+        }
+    }
+
+    @Test
+    void checkConverterCanBeSharedBetweenThreads() throws URISyntaxException, IOException, InterruptedException, ExecutionException {
+        JsonApiConverter jsonApiConverter = new JsonApiConverter();
+        byte[] inputMessage = Files.readAllBytes(Paths.get(getClass().getResource("/validRequest.json").toURI()));
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<CoreCCRequest>> conversions = IntStream.range(0, 100)
+                    .mapToObj(i -> executorService.submit(() -> jsonApiConverter.fromJsonMessage(jsonApiConverter.toJsonMessage(jsonApiConverter.fromJsonMessage(inputMessage, CoreCCRequest.class)), CoreCCRequest.class)))
+                    .toList();
+            for (Future<CoreCCRequest> conversion : conversions) {
+                assertEquals("https://glsk/file/url", conversion.get().getGlsk().getUrl());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     void checkInternalExceptionJsonConversion() throws URISyntaxException, IOException {
         JsonApiConverter jsonApiConverter = new JsonApiConverter();
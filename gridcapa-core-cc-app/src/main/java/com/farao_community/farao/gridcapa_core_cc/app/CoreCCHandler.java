@@ -13,20 +13,33 @@ import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoRequest;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoResult;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
 import com.farao_community.farao.gridcapa_core_cc.app.configuration.AmqpMessagesConfiguration;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.ExecutionConfiguration;
 import com.farao_community.farao.gridcapa_core_cc.app.postprocessing.FileExporterHelper;
+import com.farao_community.farao.gridcapa_core_cc.app.postprocessing.OutputsExporter;
 import com.farao_community.farao.gridcapa_core_cc.app.preprocessing.CoreCCPreProcessService;
+import com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics;
+import com.farao_community.farao.gridcapa_core_cc.app.services.NetworkCache;
 import com.farao_community.farao.gridcapa_core_cc.app.services.RaoRunnerService;
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import com.github.jasminb.jsonapi.exceptions.ResourceParseException;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.amqp.core.AmqpReplyTimeoutException;
 import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+import static com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics.Stage.METADATA_EXPORT;
+import static com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics.Stage.RAO;
 
 /**
  * @author Godelaine de Montmorillon {@literal <godelaine.demontmorillon at rte-france.com>}
@@ -41,18 +54,34 @@ public class CoreCCHandler {
     private final CoreCCPreProcessService coreCCPreProcessService;
     private final AmqpMessagesConfiguration amqpConfiguration;
     private final FileExporterHelper fileExporterHelper;
+    private final OutputsExporter outputsExporter;
     private final RaoRunnerService raoRunnerService;
+    private final Scheduler coreCCRequestScheduler;
+    private final NetworkCache networkCache;
+    private final CoreCCMetrics coreCCMetrics;
+    private final Semaphore raoPermits;
 
+    private static final String GRIDCAPA_TASK_ID = "gridcapa-task-id";
     private static final String RAO_FAILED_LOG_PATTERN = "Exception occurred in RAO computation for TimeStamp: '{}'. Origin cause: '{}'";
 
     public CoreCCHandler(CoreCCPreProcessService coreCCPreProcessService,
                          AmqpMessagesConfiguration amqpConfiguration,
                          RaoRunnerService raoRunnerService,
-                         FileExporterHelper fileExporterHelper) {
+                         FileExporterHelper fileExporterHelper,
+                         OutputsExporter outputsExporter,
+                         Scheduler coreCCRequestScheduler,
+                         NetworkCache networkCache,
+                         CoreCCMetrics coreCCMetrics,
+                         ExecutionConfiguration executionConfiguration) {
         this.coreCCPreProcessService = coreCCPreProcessService;
         this.amqpConfiguration = amqpConfiguration;
         this.fileExporterHelper = fileExporterHelper;
+        this.outputsExporter = outputsExporter;
         this.raoRunnerService = raoRunnerService;
+        this.coreCCRequestScheduler = coreCCRequestScheduler;
+        this.networkCache = networkCache;
+        this.coreCCMetrics = coreCCMetrics;
+        this.raoPermits = new Semaphore(executionConfiguration.getMaxRaosInFlight());
     }
 
     public void handleCoreCCRequest(InternalCoreCCRequest internalCoreCCRequest) {
@@ -63,15 +92,106 @@ public class CoreCCHandler {
             runRao(internalCoreCCRequest);
         } catch (Exception e) {
             throw new CoreCCInternalException("Exception occurred:", e);
+        } finally {
+            releaseNetwork(internalCoreCCRequest);
+            coreCCMetrics.recordTask(internalCoreCCRequest);
+        }
+    }
+
+    /**
+     * Same as {@link #handleCoreCCRequest(InternalCoreCCRequest)}, but returns as soon as the RAO request is sent,
+     * instead of waiting for the rao-runner reply. When max-raos-in-flight RAOs are already running, it first waits
+     * for one of them to end.
+     * Outputs are post-processed on the request scheduler once the rao-runner has replied,
+     * and the returned future completes when the whole task is over.
+     * Task id is left in MDC of the calling thread, caller is in charge of removing it.
+     */
+    public CompletableFuture<Void> handleCoreCCRequestAsync(InternalCoreCCRequest internalCoreCCRequest) {
+        internalCoreCCRequest.setRequestReceivedInstant(Instant.now());
+        setUpEventLogging(internalCoreCCRequest);
+        try {
+            coreCCPreProcessService.initializeTaskFromAutomatedLaunch(internalCoreCCRequest);
+            return runRaoAsync(internalCoreCCRequest)
+                    .whenComplete((result, throwable) -> runWithTaskId(internalCoreCCRequest.getId(), () -> {
+                        releaseNetwork(internalCoreCCRequest);
+                        coreCCMetrics.recordTask(internalCoreCCRequest);
+                    }));
+        } catch (Exception e) {
+            releaseNetwork(internalCoreCCRequest);
+            coreCCMetrics.recordTask(internalCoreCCRequest);
+            return CompletableFuture.failedFuture(new CoreCCInternalException("Exception occurred:", e));
+        }
+    }
+
+    private void releaseNetwork(InternalCoreCCRequest coreCCRequest) {
+        HourlyRaoRequest hourlyRaoRequest = coreCCRequest.getHourlyRaoRequest();
+        if (hourlyRaoRequest != null) {
+            networkCache.release(hourlyRaoRequest.getNetworkFileUrl());
         }
     }
 
     private static String setUpEventLogging(InternalCoreCCRequest coreCCRequest) {
-        MDC.put("gridcapa-task-id", coreCCRequest.getId());
+        MDC.put(GRIDCAPA_TASK_ID, coreCCRequest.getId());
         return TIMESTAMP_FORMATTER.format(coreCCRequest.getTimestamp());
     }
 
     private void runRao(InternalCoreCCRequest coreCCRequest) {
+        if (!isRaoToBeLaunched(coreCCRequest)) {
+            return;
+        }
+        HourlyRaoRequest hourlyRaoRequest = coreCCRequest.getHourlyRaoRequest();
+        try {
+            RaoSuccessResponse raoResponse = coreCCMetrics.record(RAO, () -> raoRunnerService.run(hourlyRaoRequest.toRaoRequest(coreCCRequest.getId(), coreCCRequest.getRunId())));
+            convertAndSaveReceivedRaoResult(coreCCRequest, raoResponse);
+        } catch (CoreCCInternalException | CoreCCRaoException e) {
+            handleRaoRunnerException(coreCCRequest.getHourlyRaoResult(), e);
+        }
+    }
+
+    private CompletableFuture<Void> runRaoAsync(InternalCoreCCRequest coreCCRequest) {
+        if (!isRaoToBeLaunched(coreCCRequest)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        RaoRequest raoRequest = coreCCRequest.getHourlyRaoRequest().toRaoRequest(coreCCRequest.getId(), coreCCRequest.getRunId());
+        acquireRaoPermit();
+        Timer.Sample raoSample = coreCCMetrics.start();
+        return raoRunnerService.runAsync(raoRequest)
+                .whenComplete((raoResponse, throwable) -> raoPermits.release())
+                // Post-processing does not run on the thread that sent the request: task id has to be set again in MDC
+                .handleAsync((raoResponse, throwable) -> runWithTaskId(coreCCRequest.getId(), () -> {
+                    coreCCMetrics.stop(raoSample, RAO, throwable);
+                    if (throwable != null) {
+                        handleRaoRunnerException(coreCCRequest.getHourlyRaoResult(), unwrap(throwable));
+                    } else {
+                        convertAndSaveReceivedRaoResult(coreCCRequest, raoResponse);
+                    }
+                }), coreCCRequestScheduler::schedule);
+    }
+
+    private void acquireRaoPermit() {
+        try {
+            raoPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreCCInternalException("Interrupted while waiting for a running RAO to end", e);
+        }
+    }
+
+    private static Void runWithTaskId(String taskId, Runnable action) {
+        MDC.put(GRIDCAPA_TASK_ID, taskId);
+        try {
+            action.run();
+            return null;
+        } finally {
+            MDC.remove(GRIDCAPA_TASK_ID);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    private boolean isRaoToBeLaunched(InternalCoreCCRequest coreCCRequest) {
         HourlyRaoRequest hourlyRaoRequest = coreCCRequest.getHourlyRaoRequest();
         HourlyRaoResult hourlyRaoResult;
         if (Objects.nonNull(coreCCRequest.getHourlyRaoResult())) {
@@ -84,27 +204,20 @@ public class CoreCCHandler {
         if (hourlyRaoResult.getStatus().equals(HourlyRaoResult.Status.FAILURE)) {
             saveMetadataWhenPreProcessingFailed(coreCCRequest);
             LOGGER.info("Skipping RAO");
-            return;
+            return false;
         }
         LOGGER.info("Launching RAO. CoreCCRequest id is {}", coreCCRequest.getId());
-        try {
-            RaoSuccessResponse raoResponse = raoRunnerService.run(hourlyRaoRequest.toRaoRequest(coreCCRequest.getId(), coreCCRequest.getRunId()));
-            convertAndSaveReceivedRaoResult(coreCCRequest, raoResponse);
-        } catch (CoreCCInternalException | CoreCCRaoException e) {
-            handleRaoRunnerException(hourlyRaoResult, e);
-        }
+        return true;
     }
 
     private void convertAndSaveReceivedRaoResult(InternalCoreCCRequest coreCCRequest, RaoSuccessResponse raoResponse) {
         HourlyRaoResult hourlyRaoResult = coreCCRequest.getHourlyRaoResult();
         try {
             hourlyRaoResult.setRaoResponseData(raoResponse);
-            fileExporterHelper.exportCneToMinio(coreCCRequest);
-            fileExporterHelper.exportNetworkToMinio(coreCCRequest);
-            fileExporterHelper.exportRaoResultToMinio(coreCCRequest);
+            outputsExporter.exportOutputs(coreCCRequest);
             // MetaData
             hourlyRaoResult.setStatus(HourlyRaoResult.Status.SUCCESS);
-            fileExporterHelper.exportMetadataToMinio(coreCCRequest);
+            coreCCMetrics.record(METADATA_EXPORT, () -> fileExporterHelper.exportMetadataToMinio(coreCCRequest));
         } catch (Exception e) {
             //no throwing exception, just save cause and pass to next timestamp
             String errorMessage = String.format("error occurred while post processing rao outputs for timestamp: %s, Cause: %s", hourlyRaoResult.getRaoRequestInstant(), e);
@@ -117,7 +230,7 @@ public class CoreCCHandler {
 
     private void saveMetadataWhenPreProcessingFailed(InternalCoreCCRequest coreCCRequest) {
         try {
-            fileExporterHelper.exportMetadataToMinioWhenPreProcessingFailed(coreCCRequest);
+            coreCCMetrics.record(METADATA_EXPORT, () -> fileExporterHelper.exportMetadataToMinioWhenPreProcessingFailed(coreCCRequest));
         } catch (Exception e) {
             throw new CoreCCInternalException("Exporting metadata failed when preProcessing failed", e);
         }
@@ -14,6 +14,7 @@ import com.farao_community.farao.gridcapa_core_cc.api.exception.AbstractCoreCCEx
 import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCRequest;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoResult;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.ExecutionConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -21,10 +22,14 @@ import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 
 /**
@@ -42,30 +47,69 @@ public class CoreCCListener {
     private final CoreCCHandler coreCCHandler;
     private final StreamBridge streamBridge;
     private final Logger businessLogger;
+    private final ExecutionConfiguration executionConfiguration;
+    private final Scheduler coreCCRequestScheduler;
 
     public CoreCCListener(final Logger businessLogger,
                           final CoreCCHandler coreCCHandler,
-                          final StreamBridge streamBridge) {
+                          final StreamBridge streamBridge,
+                          final ExecutionConfiguration executionConfiguration,
+                          final Scheduler coreCCRequestScheduler) {
         this.businessLogger = businessLogger;
         this.streamBridge = streamBridge;
         this.jsonApiConverter = new JsonApiConverter();
         this.coreCCHandler = coreCCHandler;
+        this.executionConfiguration = executionConfiguration;
+        this.coreCCRequestScheduler = coreCCRequestScheduler;
     }
 
     @Bean
     public Consumer<Flux<byte[]>> request() {
+        // Up to max-concurrent-requests messages are handled at the same time on the dedicated scheduler.
+        // Messages are acknowledged on delivery, prefetch matches this limit so that the instance does not take
+        // more messages from the queue than it can work on.
+        final int maxConcurrentRequests = executionConfiguration.getMaxConcurrentRequests();
         return flux -> flux
-                .doOnNext(this::launchCoreRequest)
+                .flatMap(req -> toHandlingMono(req)
+                                .subscribeOn(coreCCRequestScheduler)
+                                .onErrorResume(e -> {
+                                    LOGGER.error("Unexpected error while handling Core CC request", e);
+                                    return Mono.empty();
+                                }),
+                        maxConcurrentRequests,
+                        maxConcurrentRequests)
                 .subscribe();
     }
 
+    private Mono<Void> toHandlingMono(final byte[] req) {
+        if (executionConfiguration.isAsynchronousRao()) {
+            // Request is over for the flux once its RAO request is sent, the rest of the task goes on in the returned future
+            return Mono.fromRunnable(() -> handleMessageAsync(req));
+        }
+        return Mono.fromRunnable(() -> handleMessage(req));
+    }
+
+    void handleMessage(final byte[] req) {
+        try {
+            launchCoreRequest(req);
+        } finally {
+            MDC.remove(GRIDCAPA_TASK_ID);
+        }
+    }
+
+    CompletableFuture<Void> handleMessageAsync(final byte[] req) {
+        try {
+            return launchCoreRequestAsync(req);
+        } finally {
+            // Continuations do not run on this thread, they set the task id again where they run
+            MDC.remove(GRIDCAPA_TASK_ID);
+        }
+    }
+
     protected void launchCoreRequest(final byte[] req) {
         final OffsetDateTime startTime = OffsetDateTime.now();
-        final CoreCCRequest coreCCRequest;
-        try {
-            coreCCRequest = jsonApiConverter.fromJsonMessage(req, CoreCCRequest.class);
-        } catch (final RuntimeException e) {
-            LOGGER.error("Core CC exception occurred", e);
+        final CoreCCRequest coreCCRequest = readCoreCCRequest(req);
+        if (coreCCRequest == null) {
             return;
         }
         final String ccRequestId = coreCCRequest.getId();
@@ -78,15 +122,74 @@ public class CoreCCListener {
             coreCCHandler.handleCoreCCRequest(internalCoreCCRequest);
             LOGGER.info("Core CC response written for timestamp {}", coreCCRequest.getTimestamp());
             updateTaskStatus(internalCoreCCRequest.getId(), internalCoreCCRequest.getHourlyRaoResult().getStatus(), coreCCRequest.getTimestamp());
-        } catch (final AbstractCoreCCException e) {
-            logExceptionAndUpdateTaskStatus(ccRequestId, "Core CC exception occurred", e);
         } catch (final RuntimeException e) {
-            logExceptionAndUpdateTaskStatus(ccRequestId, "Core CC runtime exception occurred", e);
+            handleRequestException(ccRequestId, e);
         } finally {
             logComputationTime(startTime);
         }
     }
 
+    /**
+     * Asynchronous counterpart of {@link #launchCoreRequest(byte[])}: returns once the RAO request is sent,
+     * returned future completes once the RAO of the request has been post-processed and the task status has been updated.
+     */
+    protected CompletableFuture<Void> launchCoreRequestAsync(final byte[] req) {
+        final OffsetDateTime startTime = OffsetDateTime.now();
+        final CoreCCRequest coreCCRequest = readCoreCCRequest(req);
+        if (coreCCRequest == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final String ccRequestId = coreCCRequest.getId();
+        CompletableFuture<Void> requestHandling;
+        try {
+            MDC.put(GRIDCAPA_TASK_ID, ccRequestId);
+            sendTaskStatusUpdate(ccRequestId, TaskStatus.RUNNING);
+            final InternalCoreCCRequest internalCoreCCRequest = new InternalCoreCCRequest(coreCCRequest);
+            requestHandling = coreCCHandler.handleCoreCCRequestAsync(internalCoreCCRequest)
+                    .thenRun(() -> runWithTaskId(ccRequestId, () -> {
+                        LOGGER.info("Core CC response written for timestamp {}", coreCCRequest.getTimestamp());
+                        updateTaskStatus(internalCoreCCRequest.getId(), internalCoreCCRequest.getHourlyRaoResult().getStatus(), coreCCRequest.getTimestamp());
+                    }));
+        } catch (final RuntimeException e) {
+            requestHandling = CompletableFuture.failedFuture(e);
+        }
+        return requestHandling.handle((result, throwable) -> runWithTaskId(ccRequestId, () -> {
+            if (throwable != null) {
+                handleRequestException(ccRequestId, throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+            }
+            logComputationTime(startTime);
+        }));
+    }
+
+    private static Void runWithTaskId(final String ccRequestId,
+                                      final Runnable action) {
+        MDC.put(GRIDCAPA_TASK_ID, ccRequestId);
+        try {
+            action.run();
+            return null;
+        } finally {
+            MDC.remove(GRIDCAPA_TASK_ID);
+        }
+    }
+
+    private CoreCCRequest readCoreCCRequest(final byte[] req) {
+        try {
+            return jsonApiConverter.fromJsonMessage(req, CoreCCRequest.class);
+        } catch (final RuntimeException e) {
+            LOGGER.error("Core CC exception occurred", e);
+            return null;
+        }
+    }
+
+    private void handleRequestException(final String ccRequestId,
+                                        final Throwable e) {
+        if (e instanceof AbstractCoreCCException) {
+            logExceptionAndUpdateTaskStatus(ccRequestId, "Core CC exception occurred", e);
+        } else {
+            logExceptionAndUpdateTaskStatus(ccRequestId, "Core CC runtime exception occurred", e);
+        }
+    }
+
     private void sendTaskStatusUpdate(final String ccRequestId,
                                       final TaskStatus taskStatus) {
         streamBridge.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(UUID.fromString(ccRequestId), taskStatus));
@@ -94,7 +197,7 @@ public class CoreCCListener {
 
     private void logExceptionAndUpdateTaskStatus(final String taskId,
                                                  final String logMessage,
-                                                 final Exception e) {
+                                                 final Throwable e) {
         LOGGER.error(logMessage, e);
         businessLogger.error("{}: {}", logMessage, e.getMessage());
         sendTaskStatusUpdate(taskId, TaskStatus.ERROR);
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Business day batch mode: inputs shared by all hourly tasks of a business day
+ * (RAO request, virtual hubs, CGM and DC CGM zips) are imported once and reused.
+ */
+@Configuration
+public class BusinessDayBatchConfiguration {
+
+    private final boolean enabled;
+    private final int maxCachedDays;
+
+    public BusinessDayBatchConfiguration(@Value("${core-cc-runner.business-day-batch.enabled:false}") final boolean enabled,
+                                         @Value("${core-cc-runner.business-day-batch.max-cached-days:2}") final int maxCachedDays) {
+        this.enabled = enabled;
+        this.maxCachedDays = maxCachedDays;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxCachedDays() {
+        return Math.max(1, maxCachedDays);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The CBCORA of a business day is downloaded once and kept in memory for all its timestamps, and the CRAC created for a timestamp during preprocessing is reused for the CNE export of the same run.
+ * CBCORA XML is still parsed for each timestamp.
+ */
+@Configuration
+public class CbcoraCacheConfiguration {
+
+    private final int maxCachedDays;
+    private final int maxCachedTimestamps;
+
+    public CbcoraCacheConfiguration(@Value("${core-cc-runner.cbcora-cache.max-cached-days:2}") final int maxCachedDays,
+                                    @Value("${core-cc-runner.cbcora-cache.max-cached-timestamps:24}") final int maxCachedTimestamps) {
+        this.maxCachedDays = maxCachedDays;
+        this.maxCachedTimestamps = maxCachedTimestamps;
+    }
+
+    public int getMaxCachedDays() {
+        return Math.max(1, maxCachedDays);
+    }
+
+    public int getMaxCachedTimestamps() {
+        return Math.max(1, maxCachedTimestamps);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CRAC creation parameters are read from the file given here, and read again when it is modified.
+ * When no file is set, parameters packaged with the application are used.
+ */
+@Configuration
+public class CracCreationParametersConfiguration {
+
+    private final String file;
+
+    public CracCreationParametersConfiguration(@Value("${core-cc-runner.crac-creation-parameters.file:}") final String file) {
+        this.file = file;
+    }
+
+    public String getFile() {
+        return file;
+    }
+}
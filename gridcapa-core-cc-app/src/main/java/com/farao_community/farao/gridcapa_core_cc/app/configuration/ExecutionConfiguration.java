@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.configuration;
+
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Configures how incoming Core CC requests are executed.
+ * By default, requests are handled one at a time, as before; raising max-concurrent-requests
+ * lets one instance work on several hourly tasks at once.
+ * <p>
+ * When virtual-threads is enabled, each request runs on its own virtual thread, so that tasks waiting on
+ * MinIO or on the rao-runner only cost a few carrier threads. Task id is kept in MDC, which is thread-local,
+ * and is cleaned when a request ends. Pinned carrier threads can be traced with -Djdk.tracePinnedThreads=short.
+ * <p>
+ * When asynchronous-rao is enabled, a request only counts against max-concurrent-requests until its RAO request
+ * is sent: next request is preprocessed while the RAO runs, and outputs are post-processed once the rao-runner
+ * replies. The number of RAOs running at the same time is bounded by max-raos-in-flight, a request waits for
+ * one of them to end before sending its own.
+ * <p>
+ * RabbitMQ prefetch is set from the bounded number of concurrent requests, as a prefetch of 0 would mean unlimited.
+ */
+@Configuration
+public class ExecutionConfiguration {
+
+    private static final String REQUEST_THREAD_NAME_PREFIX = "core-cc-request";
+
+    private final int maxConcurrentRequests;
+    private final boolean virtualThreads;
+    private final boolean asynchronousRao;
+    private final int maxRaosInFlight;
+
+    public ExecutionConfiguration(@Value("${core-cc-runner.execution.max-concurrent-requests:1}") final int maxConcurrentRequests,
+                                  @Value("${core-cc-runner.execution.virtual-threads:false}") final boolean virtualThreads,
+                                  @Value("${core-cc-runner.execution.asynchronous-rao:false}") final boolean asynchronousRao,
+                                  @Value("${core-cc-runner.execution.max-raos-in-flight:1}") final int maxRaosInFlight) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.virtualThreads = virtualThreads;
+        this.asynchronousRao = asynchronousRao;
+        this.maxRaosInFlight = maxRaosInFlight;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return Math.max(1, maxConcurrentRequests);
+    }
+
+    public int getMaxRaosInFlight() {
+        return Math.max(1, maxRaosInFlight);
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public boolean isAsynchronousRao() {
+        return asynchronousRao;
+    }
+
+    /**
+     * Prefetch matches the number of requests handled at the same time, so that the instance never holds more
+     * messages than it can work on.
+     */
+    @Bean
+    public ListenerContainerCustomizer<MessageListenerContainer> requestPrefetchCustomizer() {
+        return (container, destinationName, group) -> {
+            if (container instanceof final AbstractMessageListenerContainer listenerContainer) {
+                listenerContainer.setPrefetchCount(getMaxConcurrentRequests());
+            }
+        };
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler coreCCRequestScheduler() {
+        if (virtualThreads) {
+            return Schedulers.fromExecutorService(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(REQUEST_THREAD_NAME_PREFIX + "-", 0).factory()),
+                    REQUEST_THREAD_NAME_PREFIX);
+        }
+        return Schedulers.newBoundedElastic(getMaxConcurrentRequests(), Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, REQUEST_THREAD_NAME_PREFIX);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Local on-disk cache of downloaded inputs, shared by all tasks of the instance.
+ * When no directory is set, a temporary directory is used.
+ */
+@Configuration
+public class InputFileCacheConfiguration {
+
+    private final String directory;
+    private final long maxSizeInMb;
+
+    public InputFileCacheConfiguration(@Value("${core-cc-runner.input-cache.directory:}") final String directory,
+                                       @Value("${core-cc-runner.input-cache.max-size-in-mb:2048}") final long maxSizeInMb) {
+        this.directory = directory;
+        this.maxSizeInMb = maxSizeInMb;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public long getMaxSizeInBytes() {
+        return Math.max(0, maxSizeInMb) * 1024 * 1024;
+    }
+}
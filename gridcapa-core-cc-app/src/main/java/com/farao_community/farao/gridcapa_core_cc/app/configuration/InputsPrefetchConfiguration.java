@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Preprocessing inputs (RAO request, virtual hubs and CGM zips) are all downloaded at the same time when a task
+ * starts, each on its own virtual thread, instead of one after the other.
+ * Each input gets its own timeout, as CGM zips are much bigger than other inputs.
+ */
+@Configuration
+public class InputsPrefetchConfiguration {
+
+    private final long raoRequestTimeoutInSeconds;
+    private final long virtualHubsTimeoutInSeconds;
+    private final long cgmTimeoutInSeconds;
+
+    public InputsPrefetchConfiguration(@Value("${core-cc-runner.prefetch.rao-request-timeout-in-seconds:60}") final long raoRequestTimeoutInSeconds,
+                                       @Value("${core-cc-runner.prefetch.virtual-hubs-timeout-in-seconds:60}") final long virtualHubsTimeoutInSeconds,
+                                       @Value("${core-cc-runner.prefetch.cgm-timeout-in-seconds:300}") final long cgmTimeoutInSeconds) {
+        this.raoRequestTimeoutInSeconds = raoRequestTimeoutInSeconds;
+        this.virtualHubsTimeoutInSeconds = virtualHubsTimeoutInSeconds;
+        this.cgmTimeoutInSeconds = cgmTimeoutInSeconds;
+    }
+
+    public long getRaoRequestTimeoutInSeconds() {
+        return raoRequestTimeoutInSeconds;
+    }
+
+    public long getVirtualHubsTimeoutInSeconds() {
+        return virtualHubsTimeoutInSeconds;
+    }
+
+    public long getCgmTimeoutInSeconds() {
+        return cgmTimeoutInSeconds;
+    }
+}
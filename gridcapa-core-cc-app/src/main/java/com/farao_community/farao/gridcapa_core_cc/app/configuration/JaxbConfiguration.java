@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.configuration;
+
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_response.ResponseMessage;
+import com.farao_community.farao.gridcapa_core_cc.app.util.JaxbUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Creates JAXB contexts of the RAO request and of the CGM header / RAO request ACK at startup.
+ */
+@Configuration
+public class JaxbConfiguration {
+
+    @PostConstruct
+    void warmUpJaxbContexts() {
+        JaxbUtil.warmUp(RequestMessage.class, ResponseMessage.class);
+    }
+}
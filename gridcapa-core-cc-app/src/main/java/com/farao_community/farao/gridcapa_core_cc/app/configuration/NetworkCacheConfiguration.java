@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The network created during preprocessing is kept in memory until the task is post-processed,
+ * instead of being read again from MinIO.
+ * Networks are big: only max-cached-networks of them are kept, and they can be reclaimed when memory runs low.
+ */
+@Configuration
+public class NetworkCacheConfiguration {
+
+    private final int maxCachedNetworks;
+
+    public NetworkCacheConfiguration(@Value("${core-cc-runner.network-cache.max-cached-networks:4}") final int maxCachedNetworks) {
+        this.maxCachedNetworks = maxCachedNetworks;
+    }
+
+    public int getMaxCachedNetworks() {
+        return Math.max(1, maxCachedNetworks);
+    }
+}
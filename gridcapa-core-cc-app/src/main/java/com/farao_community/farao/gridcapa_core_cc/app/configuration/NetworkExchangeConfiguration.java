@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.configuration;
+
+import com.farao_community.farao.gridcapa_core_cc.app.domain.NetworkExchangeFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Format of hourly networks uploaded to MinIO, see {@link NetworkExchangeFormat}.
+ * The rao-runner must be able to import the chosen format.
+ */
+@Configuration
+public class NetworkExchangeConfiguration {
+
+    @Value("${core-cc-runner.network-exchange.format:XIIDM}")
+    private NetworkExchangeFormat format;
+
+    public NetworkExchangeFormat getFormat() {
+        return format;
+    }
+}
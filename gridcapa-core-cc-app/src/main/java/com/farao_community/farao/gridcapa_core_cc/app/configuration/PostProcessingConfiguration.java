@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CNE, network with PRA and RAO result of a timestamp are exported at the same time, before metadata,
+ * instead of one after the other. Exports of all tasks share a pool of max-export-threads
+ * threads, as they are mostly CPU bound.
+ */
+@Configuration
+public class PostProcessingConfiguration {
+
+    private final int maxExportThreads;
+
+    public PostProcessingConfiguration(@Value("${core-cc-runner.post-processing.max-export-threads:3}") final int maxExportThreads) {
+        this.maxExportThreads = maxExportThreads;
+    }
+
+    public int getMaxExportThreads() {
+        return Math.max(1, maxExportThreads);
+    }
+}
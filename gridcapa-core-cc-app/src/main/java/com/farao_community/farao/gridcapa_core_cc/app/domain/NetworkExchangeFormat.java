@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.app.domain;
+
+import com.powsybl.commons.io.TreeDataFormat;
+
+/**
+ * Formats in which hourly networks are uploaded for the rao-runner and read back by post-processing.
+ * Networks are read with the importer matching their file extension, so readers need no configuration.
+ */
+public enum NetworkExchangeFormat {
+    XIIDM(TreeDataFormat.XML, ".xiidm"),
+    // Binary IIDM: much smaller and faster to read and write than XIIDM
+    BIIDM(TreeDataFormat.BIN, ".biidm");
+
+    private final TreeDataFormat format;
+    private final String extension;
+
+    NetworkExchangeFormat(final TreeDataFormat format, final String extension) {
+        this.format = format;
+        this.extension = extension;
+    }
+
+    public TreeDataFormat getFormat() {
+        return format;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
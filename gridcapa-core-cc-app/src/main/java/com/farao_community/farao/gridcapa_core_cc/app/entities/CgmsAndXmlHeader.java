@@ -7,15 +7,32 @@ import org.threeten.extra.Interval;
 
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * CGM paths are indexed by time interval when the zip is imported: response items of the XML header are sorted
+ * by start instant, so that looking for the CGM of an instant is a binary search on their start epochs.
+ */
 public class CgmsAndXmlHeader {
+    private static final int CGM_URL_PREFIX_LENGTH = "fileName://".length();
+
     private final ResponseMessage xmlHeader;
-    private final List<Path> networkPaths;
+    private final long[] intervalStarts;
+    private final long[] intervalEnds;
+    private final Path[] intervalNetworkPaths;
 
     public CgmsAndXmlHeader(ResponseMessage xmlHeader, List<Path> networkPaths) {
         this.xmlHeader = xmlHeader;
-        this.networkPaths = networkPaths;
+        List<IndexedResponseItem> indexedResponseItems = getResponseItems(xmlHeader).stream()
+            .map(responseItem -> new IndexedResponseItem(Interval.parse(responseItem.getTimeInterval()), findNetworkPath(responseItem, networkPaths)))
+            .sorted(Comparator.comparing(indexedResponseItem -> indexedResponseItem.interval().getStart()))
+            .toList();
+        this.intervalStarts = indexedResponseItems.stream().mapToLong(item -> item.interval().getStart().toEpochMilli()).toArray();
+        this.intervalEnds = indexedResponseItems.stream().mapToLong(item -> item.interval().getEnd().toEpochMilli()).toArray();
+        this.intervalNetworkPaths = indexedResponseItems.stream().map(IndexedResponseItem::networkPath).toArray(Path[]::new);
     }
 
     public ResponseMessage getXmlHeader() {
@@ -23,10 +40,56 @@ public class CgmsAndXmlHeader {
     }
 
     public Path getNetworkPath(Instant instant) {
-        ResponseItem instantResponseItem = xmlHeader.getPayload().getResponseItems().getResponseItem().stream()
+        long epochMilli = instant.toEpochMilli();
+        int searchIndex = Arrays.binarySearch(intervalStarts, epochMilli);
+        // When instant is not a start, binary search returns (-(insertion point) - 1): interval starting just before is at insertion point - 1
+        int intervalIndex = searchIndex >= 0 ? searchIndex : -searchIndex - 2;
+        if (intervalIndex < 0 || epochMilli >= intervalEnds[intervalIndex]) {
+            throw new CoreCCInvalidDataException("cannot find instant " + instant + " in cgm xml header time intervals");
+        }
+        Path networkPath = intervalNetworkPaths[intervalIndex];
+        if (networkPath == null) {
+            throw new CoreCCInvalidDataException("cannot find cgm for instant " + instant + " in zip folder");
+        }
+        return networkPath;
+    }
+
+    /**
+     * Name of the CGM file of given instant, as referenced in the XML header, so that it can be extracted alone from the zip.
+     */
+    public static Optional<String> findCgmFileName(ResponseMessage xmlHeader, Instant instant) {
+        return getResponseItems(xmlHeader).stream()
             .filter(responseItem -> Interval.parse(responseItem.getTimeInterval()).contains(instant))
-            .findFirst().orElseThrow(() -> new CoreCCInvalidDataException("cannot find instant " + instant + " in cgm xml header time intervals"));
-        return networkPaths.stream().filter(p -> p.toString().contains(instantResponseItem.getFiles().getFile().get(0).getUrl().substring(11)))
-            .findFirst().orElseThrow(() -> new CoreCCInvalidDataException("cannot find cgm for instant " + instant + " in zip folder"));
+            .findFirst()
+            .map(CgmsAndXmlHeader::getCgmFileName);
+    }
+
+    private static List<ResponseItem> getResponseItems(ResponseMessage xmlHeader) {
+        if (xmlHeader.getPayload() == null || xmlHeader.getPayload().getResponseItems() == null) {
+            return List.of();
+        }
+        return xmlHeader.getPayload().getResponseItems().getResponseItem();
+    }
+
+    private static Path findNetworkPath(ResponseItem responseItem, List<Path> networkPaths) {
+        String cgmFileName = getCgmFileName(responseItem);
+        if (cgmFileName == null) {
+            return null;
+        }
+        return networkPaths.stream().filter(p -> p.toString().contains(cgmFileName)).findFirst().orElse(null);
+    }
+
+    private static String getCgmFileName(ResponseItem responseItem) {
+        if (responseItem.getFiles() == null || responseItem.getFiles().getFile().isEmpty()) {
+            return null;
+        }
+        String url = responseItem.getFiles().getFile().get(0).getUrl();
+        if (url == null || url.length() < CGM_URL_PREFIX_LENGTH) {
+            return null;
+        }
+        return url.substring(CGM_URL_PREFIX_LENGTH);
+    }
+
+    private record IndexedResponseItem(Interval interval, Path networkPath) {
     }
 }
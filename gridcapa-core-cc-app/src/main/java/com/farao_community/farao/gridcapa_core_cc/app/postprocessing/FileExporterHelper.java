@@ -15,11 +15,16 @@ import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCReq
 import com.farao_community.farao.gridcapa_core_cc.api.util.IntervalUtil;
 import com.farao_community.farao.gridcapa_core_cc.app.domain.CoreCCTaskParameters;
 import com.farao_community.farao.gridcapa_core_cc.app.services.FileImporter;
+import com.farao_community.farao.gridcapa_core_cc.app.services.MinioObjectCopier;
+import com.farao_community.farao.gridcapa_core_cc.app.services.NetworkCache;
 import com.farao_community.farao.gridcapa_core_cc.app.util.NamingRules;
+import com.farao_community.farao.gridcapa_core_cc.app.util.PipedStreamUtil;
+import com.farao_community.farao.gridcapa_core_cc.app.util.UploadBuffer;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.commons.datasource.MemDataSource;
 import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Injection;
 import com.powsybl.iidm.network.Load;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.api.Crac;
@@ -29,22 +34,20 @@ import com.powsybl.openrao.data.raoresult.io.cne.core.CoreCneExporter;
 import com.powsybl.openrao.raoapi.json.JsonRaoParameters;
 import com.powsybl.openrao.raoapi.parameters.MnecParameters;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.farao_community.farao.gridcapa_core_cc.app.postprocessing.CneProperties.DOCUMENT_ID;
 import static com.farao_community.farao.gridcapa_core_cc.app.postprocessing.CneProperties.MNEC_ACCEPTABLE_MARGIN_DIMINUTION;
@@ -65,19 +68,26 @@ public class FileExporterHelper {
     private final MinioAdapter minioAdapter;
     private final FileImporter fileImporter;
     private final RegularOrDcCgmNetworkResolver regularOrDcCgmNetworkResolver;
+    private final NetworkCache networkCache;
+    private final MinioObjectCopier minioObjectCopier;
     private static final Logger LOGGER = LoggerFactory.getLogger(FileExporterHelper.class);
 
-    private static final String ALEGRO_GEN_BE = "XLI_OB1B_generator";
-    private static final String ALEGRO_GEN_DE = "XLI_OB1A_generator";
+    private static final Set<String> ALEGRO_GENERATORS = Set.of("XLI_OB1B_generator", "XLI_OB1A_generator");
+    private static final String VIRTUAL_LOAD = "_virtualLoad";
     private static final String DOMAIN_ID = "10Y1001C--00059P";
     private static final String CORE_CC = "CORE_CC";
+    private static final String RAO_RESULT = "RAO_RESULT";
 
     public FileExporterHelper(final MinioAdapter minioAdapter,
                               final FileImporter fileImporter,
-                              final RegularOrDcCgmNetworkResolver regularOrDcCgmNetworkResolver) {
+                              final RegularOrDcCgmNetworkResolver regularOrDcCgmNetworkResolver,
+                              final NetworkCache networkCache,
+                              final MinioObjectCopier minioObjectCopier) {
         this.minioAdapter = minioAdapter;
         this.fileImporter = fileImporter;
         this.regularOrDcCgmNetworkResolver = regularOrDcCgmNetworkResolver;
+        this.networkCache = networkCache;
+        this.minioObjectCopier = minioObjectCopier;
     }
 
     private static String buildFilePath(final String destination, final String filename) {
@@ -85,54 +95,51 @@ public class FileExporterHelper {
     }
 
     public void exportNetworkToMinio(final InternalCoreCCRequest coreCCRequest) {
+        exportNetworkToMinio(coreCCRequest, createPostProcessingContext(coreCCRequest));
+    }
+
+    public void exportNetworkToMinio(final InternalCoreCCRequest coreCCRequest, final PostProcessingContext postProcessingContext) {
         final HourlyRaoResult hourlyRaoResult = coreCCRequest.getHourlyRaoResult();
         LOGGER.info("Core CC task: '{}', exporting uct network with pra for timestamp: '{}'", coreCCRequest.getId(), hourlyRaoResult.getRaoRequestInstant());
 
         //get input network
         final CoreCCTaskParameters parameters = new CoreCCTaskParameters(coreCCRequest.getParameters());
-        final Network network = regularOrDcCgmNetworkResolver.resolve(parameters.isUseDcCgmInput(), coreCCRequest);
-        final MemDataSource memDataSource = new MemDataSource();
-
-        // work around until the problem of "Too many loads connected to this bus" is corrected
-        removeVirtualLoadsFromNetwork(network);
-        // work around until the problem of "Too many generators connected to this bus" is corrected
-        removeAlegroVirtualGeneratorsFromNetwork(network);
-        // work around until fictitious loads and generators are not created in groovy script anymore
-        removeFictitiousGeneratorsFromNetwork(network);
-        removeFictitiousLoadsFromNetwork(network);
-        network.write("UCTE", new Properties(), memDataSource);
+        final Network network = regularOrDcCgmNetworkResolver.resolve(parameters.isUseDcCgmInput(), coreCCRequest, postProcessingContext);
+
+        removeUnexportedInjectionsFromNetwork(network);
         final String networkNewFileName = NamingRules.generateUctFileName(hourlyRaoResult.getRaoRequestInstant(), coreCCRequest.getVersion());
 
-        try (final InputStream is = memDataSource.newInputStream("", "uct")) {
+        try {
             final String networkWithPraFilePath = buildFilePath(coreCCRequest.getHourlyRaoRequest().getResultsDestination(), networkNewFileName);
-            minioAdapter.uploadOutputForTimestamp(networkWithPraFilePath, is, CORE_CC, "CGM_OUT", coreCCRequest.getTimestamp());
+            // UCTE content is uploaded while being written rather than held in memory
+            PipedStreamUtil.upload(os -> network.write("UCTE", new Properties(), new OutputStreamDataSource(os)),
+                is -> minioAdapter.uploadOutputForTimestamp(networkWithPraFilePath, is, CORE_CC, "CGM_OUT", coreCCRequest.getTimestamp()));
         } catch (final Exception e) {
             throw new CoreCCInternalException("Network with PRA could not be uploaded to minio", e);
         }
     }
 
-    private void removeVirtualLoadsFromNetwork(final Network network) {
-        final List<String> virtualLoadsList = new ArrayList<>();
-        network.getSubstationStream().forEach(substation -> substation.getVoltageLevels()
-                .forEach(voltageLevel -> voltageLevel.getBusBreakerView().getBuses()
-                        .forEach(bus -> bus.getLoadStream().filter(busLoad -> busLoad.getNameOrId().contains("_virtualLoad")).forEach(virtualLoad -> virtualLoadsList.add(virtualLoad.getNameOrId()))
-                        )));
-        virtualLoadsList.forEach(virtualLoad -> network.getLoad(virtualLoad).remove());
-    }
-
-    private void removeAlegroVirtualGeneratorsFromNetwork(final Network network) {
-        Optional.ofNullable(network.getGenerator(ALEGRO_GEN_BE)).ifPresent(Generator::remove);
-        Optional.ofNullable(network.getGenerator(ALEGRO_GEN_DE)).ifPresent(Generator::remove);
-    }
-
-    private void removeFictitiousGeneratorsFromNetwork(final Network network) {
-        final Set<String> generatorsToRemove = network.getGeneratorStream().filter(Generator::isFictitious).map(Generator::getId).collect(Collectors.toSet());
-        generatorsToRemove.forEach(id -> network.getGenerator(id).remove());
-    }
-
-    private void removeFictitiousLoadsFromNetwork(final Network network) {
-        final Set<String> loadsToRemove = network.getLoadStream().filter(Load::isFictitious).map(Load::getId).collect(Collectors.toSet());
-        loadsToRemove.forEach(id -> network.getLoad(id).remove());
+    /**
+     * Removable injections are collected while visiting each load and generator once, then removed together:
+     * <ul>
+     *     <li>virtual loads, work around until the problem of "Too many loads connected to this bus" is corrected</li>
+     *     <li>Alegro virtual generators, work around until the problem of "Too many generators connected to this bus" is corrected</li>
+     *     <li>fictitious loads and generators, work around until they are not created in groovy script anymore</li>
+     * </ul>
+     */
+    private static void removeUnexportedInjectionsFromNetwork(final Network network) {
+        final List<Injection<?>> injectionsToRemove = new ArrayList<>();
+        for (final Load load : network.getLoads()) {
+            if (load.isFictitious() || load.getNameOrId().contains(VIRTUAL_LOAD)) {
+                injectionsToRemove.add(load);
+            }
+        }
+        for (final Generator generator : network.getGenerators()) {
+            if (generator.isFictitious() || ALEGRO_GENERATORS.contains(generator.getId())) {
+                injectionsToRemove.add(generator);
+            }
+        }
+        injectionsToRemove.forEach(Injection::remove);
     }
 
     Crac importCracFromHourlyRaoRequest(final InternalCoreCCRequest coreCCRequest, final Network network) {
@@ -145,33 +152,39 @@ public class FileExporterHelper {
         }
     }
 
+    /**
+     * Network, CRAC and RAO result are loaded lazily, when an export first needs them, and only once for all exports.
+     */
+    public PostProcessingContext createPostProcessingContext(final InternalCoreCCRequest coreCCRequest) {
+        //get input network, kept from preprocessing when possible
+        final String networkFileUrl = coreCCRequest.getHourlyRaoRequest().getNetworkFileUrl();
+        return new PostProcessingContext(
+            () -> networkCache.get(networkFileUrl).orElseGet(() -> readNetworkFromMinio(networkFileUrl)),
+            network -> importCracFromHourlyRaoRequest(coreCCRequest, network),
+            crac -> fileImporter.importRaoResult(coreCCRequest.getHourlyRaoResult().getRaoResultFileUrl(), crac));
+    }
+
     public void exportCneToMinio(final InternalCoreCCRequest coreCCRequest) throws IOException {
+        exportCneToMinio(coreCCRequest, createPostProcessingContext(coreCCRequest));
+    }
+
+    public void exportCneToMinio(final InternalCoreCCRequest coreCCRequest, final PostProcessingContext postProcessingContext) throws IOException {
         final HourlyRaoResult hourlyRaoResult = coreCCRequest.getHourlyRaoResult();
         LOGGER.info("Core CC task: '{}', creating CNE Result for timestamp: '{}'", coreCCRequest.getId(), hourlyRaoResult.getRaoRequestInstant());
         //create CNE with input from inputNetwork, outputCracJson and inputCraxXml
         final HourlyRaoRequest hourlyRaoRequest = coreCCRequest.getHourlyRaoRequest();
 
-        //get input network
-        final String networkFileUrl = hourlyRaoRequest.getNetworkFileUrl();
-        final Network network;
-        try (final InputStream networkInputStream = minioAdapter.getFile(networkFileUrl)) {
-            network = Network.read(Path.of(networkFileUrl).getFileName().toString(), networkInputStream);
-        } catch (final Exception e) {
-            throw new CoreCCInternalException("Network file could not be read", e);
-        }
+        final Network network = postProcessingContext.getNetwork();
 
         //import input crac xml file and get FbConstraintCreationContext
         final String cracXmlFileUrl = coreCCRequest.getCbcora().getUrl();
         final FbConstraintCreationContext fbConstraintCreationContext;
-        fbConstraintCreationContext = fileImporter.importCrac(cracXmlFileUrl, OffsetDateTime.parse(hourlyRaoResult.getRaoRequestInstant()), network);
+        fbConstraintCreationContext = fileImporter.importCrac(cracXmlFileUrl, OffsetDateTime.parse(hourlyRaoResult.getRaoRequestInstant()), network, coreCCRequest.getRunId());
         if (!fbConstraintCreationContext.isCreationSuccessful()) {
             throw new CoreCCInvalidDataException("Crac creation context failed for timestamp: " + hourlyRaoResult.getRaoRequestInstant());
         }
-        //get crac from hourly inputs
-        final Crac cracJson = importCracFromHourlyRaoRequest(coreCCRequest, network);
-
-        //get raoResult from result
-        final RaoResult raoResult = fileImporter.importRaoResult(hourlyRaoResult.getRaoResultFileUrl(), cracJson);
+        //get raoResult from result, with crac from hourly inputs
+        final RaoResult raoResult = postProcessingContext.getRaoResult();
 
         //get raoParams from input
         final RaoParameters raoParameters;
@@ -184,12 +197,19 @@ public class FileExporterHelper {
         //export CNE
         final String cneNewFileName = NamingRules.generateCneFileName(hourlyRaoResult.getRaoRequestInstant(), coreCCRequest);
 
-        try (final ByteArrayOutputStream outputStreamCne = new ByteArrayOutputStream()) {
-            final String cneFilePath = buildFilePath(hourlyRaoRequest.getResultsDestination(), cneNewFileName);
-            final CoreCneExporter cneExporter = new CoreCneExporter();
-            final Properties properties = getCneExporterProperties(coreCCRequest, raoParameters);
-            cneExporter.exportData(raoResult, fbConstraintCreationContext, properties, outputStreamCne);
-            minioAdapter.uploadOutputForTimestamp(cneFilePath, new ByteArrayInputStream(outputStreamCne.toByteArray()), CORE_CC, "CNE", coreCCRequest.getTimestamp());
+        final String cneFilePath = buildFilePath(hourlyRaoRequest.getResultsDestination(), cneNewFileName);
+        final CoreCneExporter cneExporter = new CoreCneExporter();
+        final Properties properties = getCneExporterProperties(coreCCRequest, raoParameters);
+        // CNE is uploaded while being written, so that it is never held whole in memory
+        PipedStreamUtil.upload(os -> cneExporter.exportData(raoResult, fbConstraintCreationContext, properties, os),
+            is -> minioAdapter.uploadOutputForTimestamp(cneFilePath, is, CORE_CC, "CNE", coreCCRequest.getTimestamp()));
+    }
+
+    private Network readNetworkFromMinio(final String networkFileUrl) {
+        try (final InputStream networkInputStream = minioAdapter.getFile(networkFileUrl)) {
+            return Network.read(Path.of(networkFileUrl).getFileName().toString(), networkInputStream);
+        } catch (final Exception e) {
+            throw new CoreCCInternalException("Network file could not be read", e);
         }
     }
 
@@ -198,7 +218,11 @@ public class FileExporterHelper {
         final HourlyRaoRequest hourlyRaoRequest = coreCCRequest.getHourlyRaoRequest();
         final OffsetDateTime coreCCRequestTimestamp = coreCCRequest.getTimestamp();
         final String raoResultFilePath = buildFilePath(hourlyRaoRequest.getResultsDestination(), NamingRules.generateRaoResultFileName(hourlyRaoResult.getRaoRequestInstant()));
-        minioAdapter.uploadOutputForTimestamp(raoResultFilePath, fileImporter.importFileUrlAsInputStream(hourlyRaoResult.getRaoResultFileUrl()), CORE_CC, "RAO_RESULT", coreCCRequestTimestamp);
+        final String raoResultFileUrl = hourlyRaoResult.getRaoResultFileUrl();
+        // RAO result is written by the rao-runner, most likely in the same bucket: it is then copied without going through this service
+        if (!minioObjectCopier.copyOutputForTimestamp(raoResultFileUrl, raoResultFilePath, CORE_CC, RAO_RESULT, coreCCRequestTimestamp)) {
+            minioAdapter.uploadOutputForTimestamp(raoResultFilePath, fileImporter.importFileUrlAsInputStream(raoResultFileUrl), CORE_CC, RAO_RESULT, coreCCRequestTimestamp);
+        }
     }
 
     private Properties getCneExporterProperties(final InternalCoreCCRequest coreCCRequest,
@@ -234,7 +258,7 @@ public class FileExporterHelper {
         final HourlyRaoRequest hourlyRaoRequest = coreCCRequest.getHourlyRaoRequest();
         final String metaDataFileName = NamingRules.generateMetadataFileName(hourlyRaoResult.getRaoRequestInstant(), coreCCRequest);
 
-        try (final ByteArrayOutputStream outputStreamMetaData = new ByteArrayOutputStream()) {
+        try (final UploadBuffer outputStreamMetaData = new UploadBuffer()) {
             final String metaDataFilePath = buildFilePath(hourlyRaoRequest.getResultsDestination(), metaDataFileName);
             final CoreCCMetadata metadata = new CoreCCMetadata(coreCCRequest.getRaoRequest().getFilename(),
                     coreCCRequest.getRequestReceivedInstant().toString(),
@@ -248,7 +272,7 @@ public class FileExporterHelper {
                     coreCCRequest.getHourlyRaoResult().getErrorMessage(),
                     coreCCRequest.getVersion());
             new ObjectMapper().writeValue(outputStreamMetaData, metadata);
-            minioAdapter.uploadOutputForTimestamp(metaDataFilePath, new ByteArrayInputStream(outputStreamMetaData.toByteArray()), CORE_CC, "METADATA", coreCCRequest.getTimestamp());
+            minioAdapter.uploadOutputForTimestamp(metaDataFilePath, outputStreamMetaData.toInputStream(), CORE_CC, "METADATA", coreCCRequest.getTimestamp());
         } catch (final Exception e) {
             throw new CoreCCInternalException("Metadata could not be uploaded to minio", e);
         }
@@ -260,7 +284,7 @@ public class FileExporterHelper {
 
         final String metaDataFileName = NamingRules.generateMetadataFileName(coreCCRequest.getTimestamp().toInstant().toString(), coreCCRequest);
 
-        try (final ByteArrayOutputStream outputStreamMetaData = new ByteArrayOutputStream()) {
+        try (final UploadBuffer outputStreamMetaData = new UploadBuffer()) {
             final String metaDataFilePath = buildFilePath(hourlyRaoRequest.getResultsDestination(), metaDataFileName);
             final CoreCCMetadata metadata = new CoreCCMetadata(coreCCRequest.getRaoRequest().getFilename(),
                     coreCCRequest.getRequestReceivedInstant().toString(),
@@ -274,9 +298,30 @@ public class FileExporterHelper {
                     coreCCRequest.getHourlyRaoResult().getErrorMessage(),
                     coreCCRequest.getVersion());
             new ObjectMapper().writeValue(outputStreamMetaData, metadata);
-            minioAdapter.uploadOutputForTimestamp(metaDataFilePath, new ByteArrayInputStream(outputStreamMetaData.toByteArray()), CORE_CC, "METADATA", coreCCRequest.getTimestamp());
+            minioAdapter.uploadOutputForTimestamp(metaDataFilePath, outputStreamMetaData.toInputStream(), CORE_CC, "METADATA", coreCCRequest.getTimestamp());
         } catch (final Exception e) {
             throw new CoreCCInternalException("Metadata could not be uploaded to minio", e);
         }
     }
+
+    /**
+     * Data source writing exported content to given stream, which is closed by its owner once export is done.
+     */
+    private static final class OutputStreamDataSource extends MemDataSource {
+        private final OutputStream outputStream;
+
+        private OutputStreamDataSource(final OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public OutputStream newOutputStream(final String suffix, final String ext, final boolean append) {
+            return CloseShieldOutputStream.wrap(outputStream);
+        }
+
+        @Override
+        public OutputStream newOutputStream(final String fileName, final boolean append) {
+            return CloseShieldOutputStream.wrap(outputStream);
+        }
+    }
 }
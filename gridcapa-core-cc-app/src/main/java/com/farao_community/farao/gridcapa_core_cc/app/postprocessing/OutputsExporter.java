@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.postprocessing;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInternalException;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.PostProcessingConfiguration;
+import com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics.Stage.CNE_EXPORT;
+import static com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics.Stage.RAO_RESULT_EXPORT;
+import static com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics.Stage.UCTE_EXPORT;
+
+/**
+ * Exports RAO outputs of a timestamp, see {@link PostProcessingConfiguration}.
+ * All exports are completed even if one fails, and their failures are reported together.
+ */
+@Service
+public class OutputsExporter {
+
+    private static final String EXPORT_THREAD_NAME_PREFIX = "core-cc-export-";
+
+    private final FileExporterHelper fileExporterHelper;
+    private final CoreCCMetrics coreCCMetrics;
+    private final ExecutorService exportExecutor;
+
+    public OutputsExporter(final FileExporterHelper fileExporterHelper,
+                           final PostProcessingConfiguration postProcessingConfiguration,
+                           final CoreCCMetrics coreCCMetrics) {
+        this.fileExporterHelper = fileExporterHelper;
+        this.coreCCMetrics = coreCCMetrics;
+        this.exportExecutor = Executors.newFixedThreadPool(postProcessingConfiguration.getMaxExportThreads(),
+                Thread.ofPlatform().name(EXPORT_THREAD_NAME_PREFIX, 0).daemon().factory());
+    }
+
+    /**
+     * Exports CNE, network with PRA and RAO result. Metadata is not exported here, as it depends on the outcome.
+     * CNE and network exports share the RAO result, which is parsed only once.
+     */
+    public void exportOutputs(final InternalCoreCCRequest coreCCRequest) throws Exception {
+        final PostProcessingContext postProcessingContext = fileExporterHelper.createPostProcessingContext(coreCCRequest);
+        final Map<String, Export> exports = new LinkedHashMap<>();
+        exports.put("CNE", timed(CNE_EXPORT, () -> fileExporterHelper.exportCneToMinio(coreCCRequest, postProcessingContext)));
+        exports.put("network with PRA", timed(UCTE_EXPORT, () -> fileExporterHelper.exportNetworkToMinio(coreCCRequest, postProcessingContext)));
+        exports.put("RAO result", timed(RAO_RESULT_EXPORT, () -> fileExporterHelper.exportRaoResultToMinio(coreCCRequest)));
+        final Map<String, CompletableFuture<Void>> runningExports = new LinkedHashMap<>();
+        exports.forEach((name, export) -> runningExports.put(name, runAsync(export)));
+        final List<String> failedExports = new ArrayList<>();
+        final List<Throwable> failures = new ArrayList<>();
+        runningExports.forEach((name, runningExport) -> {
+            try {
+                runningExport.join();
+            } catch (final CompletionException e) {
+                failedExports.add(String.format("%s (%s)", name, e.getCause().getMessage()));
+                failures.add(e.getCause());
+            }
+        });
+        throwFailures(failedExports, failures);
+    }
+
+    private Export timed(final CoreCCMetrics.Stage stage, final Export export) {
+        return () -> coreCCMetrics.record(stage, export::run);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        exportExecutor.shutdownNow();
+    }
+
+    private CompletableFuture<Void> runAsync(final Export export) {
+        // Task id is propagated to export logs
+        final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        return CompletableFuture.runAsync(() -> {
+            if (contextMap != null) {
+                MDC.setContextMap(contextMap);
+            }
+            try {
+                export.run();
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                MDC.clear();
+            }
+        }, exportExecutor);
+    }
+
+    /**
+     * A single failure is thrown as is, so that it is reported like any other task failure.
+     */
+    private static void throwFailures(final List<String> failedExports, final List<Throwable> failures) throws Exception {
+        if (failures.isEmpty()) {
+            return;
+        }
+        if (failures.size() == 1 && failures.get(0) instanceof final Exception failure) {
+            throw failure;
+        }
+        final CoreCCInternalException exception = new CoreCCInternalException("Exports failed: " + String.join(", ", failedExports), failures.get(0));
+        failures.stream().skip(1).forEach(exception::addSuppressed);
+        throw exception;
+    }
+
+    @FunctionalInterface
+    private interface Export {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.postprocessing;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Inputs shared by all exports of a timestamp: network used as RAO input, CRAC sent to the rao-runner and RAO result.
+ * Each of them is loaded once, by the first export needing it, and then given to the other ones.
+ * Exports may run concurrently: an export needing an input that is being loaded waits for it.
+ * Failed loads are not kept, so that a later export tries again and reports its own failure.
+ */
+public class PostProcessingContext {
+
+    private final Memoized<Network> network;
+    private final Memoized<Crac> crac;
+    private final Memoized<RaoResult> raoResult;
+
+    PostProcessingContext(final Supplier<Network> networkLoader,
+                          final Function<Network, Crac> cracLoader,
+                          final Function<Crac, RaoResult> raoResultLoader) {
+        this.network = new Memoized<>(networkLoader);
+        this.crac = new Memoized<>(() -> cracLoader.apply(getNetwork()));
+        this.raoResult = new Memoized<>(() -> raoResultLoader.apply(getCrac()));
+    }
+
+    public Network getNetwork() {
+        return network.get();
+    }
+
+    public Crac getCrac() {
+        return crac.get();
+    }
+
+    public RaoResult getRaoResult() {
+        return raoResult.get();
+    }
+
+    /**
+     * Loads are guarded by a lock rather than a synchronized block, so that a virtual thread waiting for a load,
+     * or running one, does not pin its carrier thread.
+     */
+    private static final class Memoized<T> implements Supplier<T> {
+        private final Supplier<T> loader;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile T value;
+
+        private Memoized(final Supplier<T> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public T get() {
+            final T loadedValue = value;
+            if (loadedValue != null) {
+                return loadedValue;
+            }
+            lock.lock();
+            try {
+                if (value == null) {
+                    value = loader.get();
+                }
+                return value;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.preprocessing;
+
+import com.farao_community.farao.gridcapa_core_cc.app.entities.CgmsAndXmlHeader;
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
+import com.powsybl.openrao.virtualhubs.VirtualHubsConfiguration;
+
+/**
+ * Parsed inputs that are common to all the hourly timestamps of a business day.
+ * They are only read during preprocessing, so they can be shared between hourly tasks.
+ *
+ * @param dcCgmsAndXmlHeader null when no DC CGM is provided
+ */
+public record BusinessDayInputs(RequestMessage raoRequestMessage,
+                                VirtualHubsConfiguration virtualHubsConfiguration,
+                                CgmsAndXmlHeader cgmsAndXmlHeader,
+                                CgmsAndXmlHeader dcCgmsAndXmlHeader) {
+}
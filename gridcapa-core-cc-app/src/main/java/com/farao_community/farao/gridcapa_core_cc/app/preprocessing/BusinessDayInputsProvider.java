@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.preprocessing;
+
+import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCFileResource;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.BusinessDayBatchConfiguration;
+import com.farao_community.farao.gridcapa_core_cc.app.entities.CgmsAndXmlHeader;
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
+import com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics;
+import com.farao_community.farao.gridcapa_core_cc.app.services.FileImporter;
+import com.farao_community.farao.gridcapa_core_cc.app.util.NamingRules;
+import com.powsybl.openrao.virtualhubs.VirtualHubsConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.farao_community.farao.gridcapa_core_cc.app.preprocessing.InputsPrefetcher.PrefetchedInput.CGM;
+import static com.farao_community.farao.gridcapa_core_cc.app.preprocessing.InputsPrefetcher.PrefetchedInput.DC_CGM;
+import static com.farao_community.farao.gridcapa_core_cc.app.preprocessing.InputsPrefetcher.PrefetchedInput.RAO_REQUEST;
+import static com.farao_community.farao.gridcapa_core_cc.app.preprocessing.InputsPrefetcher.PrefetchedInput.VIRTUAL_HUBS;
+import static com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics.Stage.INPUTS_IMPORT;
+import static com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics.Stage.UNZIP;
+
+/**
+ * Provides the inputs shared by all hourly tasks of a business day.
+ * <p>
+ * In business day batch mode, the RAO request, virtual hubs and CGM zips of a business day are downloaded
+ * and parsed by the first hourly task that needs them; the following hourly tasks of the same day reuse them,
+ * as long as none of these files has been updated, and only create their own network, CRAC and hourly RAO request. When several tasks of the same day start
+ * at the same time, only one of them imports the inputs while the others wait for the result.
+ * Otherwise, inputs are imported again for each task: only the request item of the task is read from the RAO request,
+ * and only the CGMs of the task are extracted from the zips.
+ * In both cases, inputs are downloaded at the same time, see {@link InputsPrefetcher}.
+ */
+@Service
+public class BusinessDayInputsProvider {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BusinessDayInputsProvider.class);
+
+    private final FileImporter fileImporter;
+    private final BusinessDayBatchConfiguration businessDayBatchConfiguration;
+    private final InputsPrefetcher inputsPrefetcher;
+    private final CoreCCMetrics coreCCMetrics;
+    private final Map<BusinessDayKey, CompletableFuture<BusinessDayInputs>> cachedInputs = new ConcurrentHashMap<>();
+    private final Queue<BusinessDayKey> cachedDays = new ConcurrentLinkedQueue<>();
+
+    public BusinessDayInputsProvider(final FileImporter fileImporter,
+                                     final BusinessDayBatchConfiguration businessDayBatchConfiguration,
+                                     final InputsPrefetcher inputsPrefetcher,
+                                     final CoreCCMetrics coreCCMetrics) {
+        this.fileImporter = fileImporter;
+        this.businessDayBatchConfiguration = businessDayBatchConfiguration;
+        this.inputsPrefetcher = inputsPrefetcher;
+        this.coreCCMetrics = coreCCMetrics;
+    }
+
+    public BusinessDayInputs getInputs(final InternalCoreCCRequest coreCCRequest) {
+        if (!businessDayBatchConfiguration.isEnabled()) {
+            return importTaskInputs(coreCCRequest);
+        }
+        final BusinessDayKey key = BusinessDayKey.of(coreCCRequest, fileImporter::getFileVersion);
+        final CompletableFuture<BusinessDayInputs> importedInputs = new CompletableFuture<>();
+        final CompletableFuture<BusinessDayInputs> existingInputs = cachedInputs.putIfAbsent(key, importedInputs);
+        if (existingInputs != null) {
+            LOGGER.info("Reusing business day inputs already imported for RAO request {}", coreCCRequest.getRaoRequest().getFilename());
+            return join(existingInputs);
+        }
+        cachedDays.add(key);
+        evictOldestDays();
+        try {
+            final BusinessDayInputs inputs = importBusinessDayInputs(coreCCRequest);
+            importedInputs.complete(inputs);
+            return inputs;
+        } catch (final RuntimeException e) {
+            // Failed imports are not kept, so that next task of the day can try again
+            cachedInputs.remove(key, importedInputs);
+            importedInputs.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Only the request item and the CGMs of the task timestamp are needed.
+     */
+    private BusinessDayInputs importTaskInputs(final InternalCoreCCRequest coreCCRequest) {
+        final Instant instant = coreCCRequest.getTimestamp().toInstant();
+        return importInputs(coreCCRequest,
+                () -> coreCCMetrics.record(INPUTS_IMPORT, () -> fileImporter.importRaoRequest(coreCCRequest.getRaoRequest(), instant)),
+                cgmFileResource -> coreCCMetrics.record(UNZIP, () -> fileImporter.importCgmsZip(cgmFileResource, instant)));
+    }
+
+    private BusinessDayInputs importBusinessDayInputs(final InternalCoreCCRequest coreCCRequest) {
+        return importInputs(coreCCRequest,
+                () -> coreCCMetrics.record(INPUTS_IMPORT, () -> fileImporter.importRaoRequest(coreCCRequest.getRaoRequest())),
+                cgmFileResource -> coreCCMetrics.record(UNZIP, () -> fileImporter.importCgmsZip(cgmFileResource)));
+    }
+
+    private BusinessDayInputs importInputs(final InternalCoreCCRequest coreCCRequest,
+                                           final Supplier<RequestMessage> raoRequestImporter,
+                                           final Function<CoreCCFileResource, CgmsAndXmlHeader> cgmsImporter) {
+        // All imports are started before waiting for any of them
+        final CompletableFuture<RequestMessage> raoRequestMessage = inputsPrefetcher.prefetch(RAO_REQUEST, raoRequestImporter);
+        final CompletableFuture<VirtualHubsConfiguration> virtualHubsConfiguration = inputsPrefetcher.prefetch(VIRTUAL_HUBS,
+                () -> coreCCMetrics.record(INPUTS_IMPORT, () -> fileImporter.importVirtualHubs(coreCCRequest.getVirtualHub())));
+        final CompletableFuture<CgmsAndXmlHeader> cgmsAndXmlHeader = inputsPrefetcher.prefetch(CGM,
+                () -> cgmsImporter.apply(coreCCRequest.getCgm()));
+        final CompletableFuture<CgmsAndXmlHeader> dcCgmsAndXmlHeader = coreCCRequest.getDcCgm() != null
+                ? inputsPrefetcher.prefetch(DC_CGM, () -> cgmsImporter.apply(coreCCRequest.getDcCgm()))
+                : CompletableFuture.completedFuture(null);
+        try {
+            return new BusinessDayInputs(InputsPrefetcher.join(RAO_REQUEST, raoRequestMessage),
+                    InputsPrefetcher.join(VIRTUAL_HUBS, virtualHubsConfiguration),
+                    InputsPrefetcher.join(CGM, cgmsAndXmlHeader),
+                    InputsPrefetcher.join(DC_CGM, dcCgmsAndXmlHeader));
+        } catch (final RuntimeException e) {
+            // Task fails anyway: downloads of the other inputs are interrupted
+            Stream.of(raoRequestMessage, virtualHubsConfiguration, cgmsAndXmlHeader, dcCgmsAndXmlHeader)
+                    .forEach(prefetchedInput -> prefetchedInput.cancel(true));
+            throw e;
+        }
+    }
+
+    private void evictOldestDays() {
+        while (cachedDays.size() > businessDayBatchConfiguration.getMaxCachedDays()) {
+            final BusinessDayKey evictedKey = cachedDays.poll();
+            if (evictedKey != null) {
+                cachedInputs.remove(evictedKey);
+            }
+        }
+    }
+
+    private static BusinessDayInputs join(final CompletableFuture<BusinessDayInputs> inputs) {
+        try {
+            return inputs.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Business day inputs are identified by the URLs and versions of their files, so that inputs updated
+     * during the business day are imported again.
+     */
+    record BusinessDayKey(InputKey raoRequest, InputKey virtualHub, InputKey cgm, InputKey dcCgm) {
+        static BusinessDayKey of(final InternalCoreCCRequest coreCCRequest, final Function<CoreCCFileResource, String> versionReader) {
+            return new BusinessDayKey(InputKey.of(coreCCRequest.getRaoRequest(), versionReader),
+                    InputKey.of(coreCCRequest.getVirtualHub(), versionReader),
+                    InputKey.of(coreCCRequest.getCgm(), versionReader),
+                    InputKey.of(coreCCRequest.getDcCgm(), versionReader));
+        }
+    }
+
+    /**
+     * Query parameters are ignored as pre-signed URLs of a same file differ from one task to another.
+     * Version is the one used by the local files cache, see {@link FileImporter#getFileVersion}.
+     */
+    record InputKey(String url, String version) {
+        static InputKey of(final CoreCCFileResource fileResource, final Function<CoreCCFileResource, String> versionReader) {
+            if (fileResource == null || fileResource.getUrl() == null) {
+                return null;
+            }
+            return new InputKey(NamingRules.removeUrlQuery(fileResource.getUrl()), versionReader.apply(fileResource));
+        }
+    }
+}
@@ -11,17 +11,26 @@ import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDat
 import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoRequest;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoResult;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.NetworkExchangeConfiguration;
 import com.farao_community.farao.gridcapa_core_cc.app.domain.CoreCCTaskParameters;
+import com.farao_community.farao.gridcapa_core_cc.app.domain.NetworkExchangeFormat;
 import com.farao_community.farao.gridcapa_core_cc.app.entities.CgmsAndXmlHeader;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_response.Header;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_response.Reply;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_response.ResponseMessage;
+import com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics;
 import com.farao_community.farao.gridcapa_core_cc.app.services.FileImporter;
+import com.farao_community.farao.gridcapa_core_cc.app.services.NetworkCache;
 import com.farao_community.farao.gridcapa_core_cc.app.util.CoreNetworkImporterWrapper;
+import com.farao_community.farao.gridcapa_core_cc.app.util.JaxbUtil;
 import com.farao_community.farao.gridcapa_core_cc.app.util.NamingRules;
+import com.farao_community.farao.gridcapa_core_cc.app.util.PipedStreamUtil;
+import com.farao_community.farao.gridcapa_core_cc.app.util.UploadBuffer;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
 import com.powsybl.openrao.data.crac.api.CracCreationContext;
 import com.powsybl.openrao.virtualhubs.VirtualHubsConfiguration;
 import org.slf4j.Logger;
@@ -29,25 +38,19 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.threeten.extra.Interval;
 
-import javax.xml.XMLConstants;
-import javax.xml.namespace.QName;
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBElement;
-import jakarta.xml.bind.Marshaller;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringWriter;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics.Stage.CRAC_CREATION;
+import static com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics.Stage.NETWORK_UPLOAD;
+import static com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics.Stage.UCT_IMPORT;
+
 /**
  * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
  */
@@ -55,22 +58,27 @@ import java.util.concurrent.atomic.AtomicReference;
 public class CoreCCPreProcessService {
     private static final Logger LOGGER = LoggerFactory.getLogger(CoreCCPreProcessService.class);
     private static final String S_HOURLY_RAO_RESULTS_S = "%s/hourly_rao_results";
-    private static final String XIIDM_EXPORT_FORMAT = "XIIDM";
-    private static final String XIIDM_EXTENSION = ".xiidm";
-    private static final String UCT_EXTENSION = ".uct";
     private static final String JSON_CRAC_PROVIDER = "JSON";
 
     private final Logger businessLogger;
     private final MinioAdapter minioAdapter;
     private final RaoParametersService raoParametersService;
     private final FileImporter fileImporter;
+    private final BusinessDayInputsProvider businessDayInputsProvider;
+    private final NetworkCache networkCache;
+    private final NetworkExchangeConfiguration networkExchangeConfiguration;
+    private final CoreCCMetrics coreCCMetrics;
     private static final String GENERAL_ERROR = "Error occurred while trying to import inputs at timestamp: %s. Origin cause : %s";
 
-    public CoreCCPreProcessService(Logger businessLogger, MinioAdapter minioAdapter, RaoParametersService raoParametersService, FileImporter fileImporter) {
+    public CoreCCPreProcessService(Logger businessLogger, MinioAdapter minioAdapter, RaoParametersService raoParametersService, FileImporter fileImporter, BusinessDayInputsProvider businessDayInputsProvider, NetworkCache networkCache, NetworkExchangeConfiguration networkExchangeConfiguration, CoreCCMetrics coreCCMetrics) {
         this.businessLogger = businessLogger;
         this.minioAdapter = minioAdapter;
         this.raoParametersService = raoParametersService;
         this.fileImporter = fileImporter;
+        this.businessDayInputsProvider = businessDayInputsProvider;
+        this.networkCache = networkCache;
+        this.networkExchangeConfiguration = networkExchangeConfiguration;
+        this.coreCCMetrics = coreCCMetrics;
     }
 
     public void initializeTaskFromAutomatedLaunch(InternalCoreCCRequest coreCCRequest) {
@@ -83,19 +91,22 @@ public class CoreCCPreProcessService {
      * - the list of hourly timestamps for which a RAO needs to be computed. That's why we check if coreCCRequest's timestamp
      * matches one of the list's timestamps.
      * - specific RAO parameters to be overloaded.
+     * RaoRequest, virtual hubs and CGMs are shared by all timestamps of the business day, see {@link BusinessDayInputsProvider}.
+     * CBCORA is read from {@link com.farao_community.farao.gridcapa_core_cc.app.services.CbcoraCache} when the CRAC is created.
      */
     private void splitRaoRequest(InternalCoreCCRequest coreCCRequest) {
         String destinationKey = NamingRules.getDestinationKey(coreCCRequest.getTimestamp());
         String destinationPath = generateResultDestinationPath(destinationKey);
         CoreCCTaskParameters parameters = new CoreCCTaskParameters(coreCCRequest.getParameters());
         logCoreCCParameters(coreCCRequest, parameters);
-        RequestMessage raoRequestMessage = fileImporter.importRaoRequest(coreCCRequest.getRaoRequest());
+        BusinessDayInputs businessDayInputs = businessDayInputsProvider.getInputs(coreCCRequest);
+        RequestMessage raoRequestMessage = businessDayInputs.raoRequestMessage();
         coreCCRequest.setTimeInterval(raoRequestMessage.getPayload().getRequestItems().getTimeInterval());
         coreCCRequest.setCorrelationId(raoRequestMessage.getHeader().getCorrelationID());
-        VirtualHubsConfiguration virtualHubsConfiguration = fileImporter.importVirtualHubs(coreCCRequest.getVirtualHub());
+        VirtualHubsConfiguration virtualHubsConfiguration = businessDayInputs.virtualHubsConfiguration();
         String raoParametersFileUrl = raoParametersService.uploadJsonRaoParameters(raoRequestMessage, virtualHubsConfiguration, destinationKey);
-        CgmsAndXmlHeader cgmsAndXmlHeader = fileImporter.importCgmsZip(coreCCRequest.getCgm());
-        CgmsAndXmlHeader dcCgmsAndXmlHeader = coreCCRequest.getDcCgm() != null ? fileImporter.importCgmsZip(coreCCRequest.getDcCgm()) : null;
+        CgmsAndXmlHeader cgmsAndXmlHeader = businessDayInputs.cgmsAndXmlHeader();
+        CgmsAndXmlHeader dcCgmsAndXmlHeader = businessDayInputs.dcCgmsAndXmlHeader();
         if (!Interval.parse(raoRequestMessage.getPayload().getRequestItems().getTimeInterval()).equals(Interval.parse(cgmsAndXmlHeader.getXmlHeader().getPayload().getResponseItems().getTimeInterval()))) {
             throw new CoreCCInvalidDataException("RaoRequest and CGM header time intervals don't match");
         }
@@ -104,15 +115,19 @@ public class CoreCCPreProcessService {
         AtomicReference<HourlyRaoResult> raoResult = new AtomicReference<>();
         // Looping through all raoRequest items. Only item matching coreCCRequest's timestamp will set raoRequest
         raoRequestMessage.getPayload().getRequestItems().getRequestItem().forEach(requestItem -> {
-            Instant utcInstant = Interval.parse(requestItem.getTimeInterval()).getStart();
-            if (Interval.parse(requestItem.getTimeInterval()).contains(coreCCRequest.getTimestamp().toInstant())) {
+            Interval requestItemInterval = Interval.parse(requestItem.getTimeInterval());
+            Instant utcInstant = requestItemInterval.getStart();
+            if (requestItemInterval.contains(coreCCRequest.getTimestamp().toInstant())) {
                 LOGGER.info("CoreCCRequest timestamp : {} matched raoRequest timestamp : {}", coreCCRequest.getTimestamp(), utcInstant);
                 sendRaoRequestAcknowledgment(coreCCRequest, NamingRules.getAckDestinationKey(coreCCRequest.getTimestamp()), raoRequestMessage);
                 try {
                     final Path cgmPath = resolveCgmPath(dcCgmsAndXmlHeader, utcInstant, cgmsAndXmlHeader, parameters);
                     Network network = convertNetworkToIidm(cgmPath);
-                    String networkFileUrl = uploadIidmNetwork(destinationKey, cgmPath, network, cgmPath.toFile().getName(), utcInstant);
+                    String networkFileUrl = uploadIidmNetwork(destinationKey, network, utcInstant);
                     String jsonCracFileUrl = uploadJsonCrac(coreCCRequest, destinationKey, utcInstant, network);
+                    // Post-processing reuses the network instead of reading uploaded file again.
+                    // It is only cached once preprocessing succeeded, as a failed timestamp never releases it.
+                    networkCache.put(networkFileUrl, network);
                     raoRequest.set(new HourlyRaoRequest(minioAdapter, utcInstant.toString(), networkFileUrl, jsonCracFileUrl,
                             coreCCRequest.getRefProg().getUrl(),
                             coreCCRequest.getVirtualHub().getUrl(),
@@ -159,8 +174,9 @@ public class CoreCCPreProcessService {
                         final CoreCCTaskParameters parameters) {
         final Path cgmPath;
         if (parameters.isUseDcCgmInput()) {
-            if (dcCgmsPaths != null && dcCgmsPaths.getNetworkPath(utcInstant) != null) {
-                cgmPath = dcCgmsPaths.getNetworkPath(utcInstant);
+            final Path dcCgmPath = dcCgmsPaths != null ? dcCgmsPaths.getNetworkPath(utcInstant) : null;
+            if (dcCgmPath != null) {
+                cgmPath = dcCgmPath;
             } else {
                 businessLogger.warn("DC_CGM not available, using CGM input instead.");
                 cgmPath = cgmsAndXmlHeader.getNetworkPath(utcInstant);
@@ -176,16 +192,20 @@ public class CoreCCPreProcessService {
     }
 
     private Network convertNetworkToIidm(Path cgmPath) {
-        return CoreNetworkImporterWrapper.loadNetwork(cgmPath);
+        return coreCCMetrics.record(UCT_IMPORT, () -> CoreNetworkImporterWrapper.loadNetwork(cgmPath));
     }
 
-    private String uploadIidmNetwork(String destinationKey, Path cgmPath, Network network, String cgmFileName, Instant utcInstant) {
-        String iidmFileName = cgmFileName.replaceAll("(?i)" + UCT_EXTENSION, XIIDM_EXTENSION);
-        Path iidmTmpPath = Paths.get(cgmPath.toString().replace(cgmFileName, iidmFileName)); //NOSONAR
-        network.write(XIIDM_EXPORT_FORMAT, null, iidmTmpPath);
-        String iidmNetworkDestinationPath = String.format(NamingRules.S_INPUTS_NETWORKS_S, destinationKey, NamingRules.UTC_HOURLY_NAME_FORMATTER.format(utcInstant).concat(NamingRules.IIDM_EXTENSION));
-        try (FileInputStream iidmNetworkInputStream = new FileInputStream(iidmTmpPath.toString())) { //NOSONAR
-            minioAdapter.uploadArtifact(iidmNetworkDestinationPath, iidmNetworkInputStream);
+    /**
+     * Network is uploaded in the configured exchange format: its extension tells readers which importer to use.
+     * It is serialized while being uploaded, so that it is neither written to disk nor entirely held in memory.
+     */
+    private String uploadIidmNetwork(String destinationKey, Network network, Instant utcInstant) {
+        NetworkExchangeFormat exchangeFormat = networkExchangeConfiguration.getFormat();
+        String iidmNetworkDestinationPath = String.format(NamingRules.S_INPUTS_NETWORKS_S, destinationKey, NamingRules.UTC_HOURLY_NAME_FORMATTER.format(utcInstant).concat(exchangeFormat.getExtension()));
+        ExportOptions exportOptions = new ExportOptions().setFormat(exchangeFormat.getFormat());
+        try {
+            coreCCMetrics.record(NETWORK_UPLOAD, () -> PipedStreamUtil.upload(outputStream -> NetworkSerDe.write(network, exportOptions, outputStream),
+                inputStream -> minioAdapter.uploadArtifact(iidmNetworkDestinationPath, inputStream)));
         } catch (Exception e) {
             throw new CoreCCInternalException("IIDM network could not be uploaded to minio", e);
         }
@@ -193,19 +213,21 @@ public class CoreCCPreProcessService {
     }
 
     private String uploadJsonCrac(InternalCoreCCRequest coreCCRequest, String destinationKey, Instant utcInstant, Network network) {
-        CracCreationContext cracCreationContext = fileImporter.importCrac(coreCCRequest.getCbcora().getUrl(), OffsetDateTime.parse(utcInstant.toString()), network);
-        try (ByteArrayOutputStream cracByteArrayOutputStream = new ByteArrayOutputStream()) {
-            cracCreationContext.getCrac().write(JSON_CRAC_PROVIDER, cracByteArrayOutputStream);
+        OffsetDateTime targetProcessDateTime = OffsetDateTime.parse(utcInstant.toString());
+        CracCreationContext cracCreationContext = coreCCMetrics.record(CRAC_CREATION,
+            () -> fileImporter.importCrac(coreCCRequest.getCbcora().getUrl(), targetProcessDateTime, network, coreCCRequest.getRunId()));
+        try (UploadBuffer cracBuffer = new UploadBuffer()) {
+            cracCreationContext.getCrac().write(JSON_CRAC_PROVIDER, cracBuffer);
             String jsonCracFilePath = String.format(NamingRules.S_INPUTS_CRACS_S, destinationKey, NamingRules.UTC_HOURLY_NAME_FORMATTER.format(utcInstant).concat(NamingRules.JSON_EXTENSION));
-            uploadCracJsonToMinio(cracByteArrayOutputStream, jsonCracFilePath);
+            uploadCracJsonToMinio(cracBuffer, jsonCracFilePath);
             return jsonCracFilePath;
         } catch (Exception e) {
             throw new CoreCCInternalException(String.format("Exception occurred while importing CRAC file: %s", coreCCRequest.getCbcora().getFilename()), e);
         }
     }
 
-    private void uploadCracJsonToMinio(ByteArrayOutputStream cracByteArrayOutputStream, String jsonCracFilePath) {
-        try (InputStream is = new ByteArrayInputStream(cracByteArrayOutputStream.toByteArray())) {
+    private void uploadCracJsonToMinio(UploadBuffer cracBuffer, String jsonCracFilePath) {
+        try (InputStream is = cracBuffer.toInputStream()) {
             minioAdapter.uploadArtifact(jsonCracFilePath, is);
         } catch (Exception e) {
             throw new CoreCCInternalException("Crac JSON file could not be uploaded to minio", e);
@@ -235,7 +257,7 @@ public class CoreCCPreProcessService {
     }
 
     private void exportRaoRequestAcknowledgment(ResponseMessage responseMessage, InternalCoreCCRequest coreCCRequest, String destinationKey) {
-        byte[] xml = marshallMessageAndSetJaxbProperties(responseMessage);
+        UploadBuffer xml = marshallMessageAndSetJaxbProperties(responseMessage);
 
         String raoRequestAckFileName = NamingRules.generateRaoRequestAckFileName(coreCCRequest);
         String destinationPath = NamingRules.generateOutputsDestinationPath(destinationKey, raoRequestAckFileName);
@@ -243,7 +265,7 @@ public class CoreCCPreProcessService {
         if (minioAdapter.fileExists(destinationPath)) {
             LOGGER.info("ACK has already been uploaded !");
         } else {
-            try (InputStream xmlIs = new ByteArrayInputStream(xml)) {
+            try (InputStream xmlIs = xml.toInputStream()) {
                 LOGGER.info("Uploading ACK !");
                 minioAdapter.uploadArtifact(destinationPath, xmlIs);
             } catch (IOException e) {
@@ -252,19 +274,12 @@ public class CoreCCPreProcessService {
         }
     }
 
-    private byte[] marshallMessageAndSetJaxbProperties(ResponseMessage responseMessage) {
+    private UploadBuffer marshallMessageAndSetJaxbProperties(ResponseMessage responseMessage) {
         try {
-            StringWriter stringWriter = new StringWriter();
-            JAXBContext jaxbContext = JAXBContext.newInstance(ResponseMessage.class);
-            Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
-            jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            String eventMessage = "ResponseMessage";
-            QName qName = new QName(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, eventMessage);
-            JAXBElement<ResponseMessage> root = new JAXBElement<>(qName, ResponseMessage.class, responseMessage);
-            jaxbMarshaller.marshal(root, stringWriter);
-            return stringWriter.toString()
-                    .replace("xsi:ResponseMessage", "ResponseMessage")
-                    .getBytes();
+            UploadBuffer outputStream = new UploadBuffer();
+            // ACK content is kept as expected by receivers: root element without prefix, xsi namespace still declared
+            JaxbUtil.marshalContentDeclaringXsi(ResponseMessage.class, responseMessage, outputStream);
+            return outputStream;
         } catch (Exception e) {
             throw new CoreCCInternalException("Exception occurred during RAO Request ACK export.", e);
         }
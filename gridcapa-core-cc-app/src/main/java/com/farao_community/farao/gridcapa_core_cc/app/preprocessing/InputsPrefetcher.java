@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.preprocessing;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.InputsPrefetchConfiguration;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Starts the import of preprocessing inputs, see {@link InputsPrefetchConfiguration}.
+ * Imports are returned as futures, so that all downloads run together and preprocessing only waits for the slowest one.
+ */
+@Service
+public class InputsPrefetcher {
+
+    enum PrefetchedInput {
+        RAO_REQUEST,
+        VIRTUAL_HUBS,
+        CGM,
+        DC_CGM
+    }
+
+    private static final String PREFETCH_THREAD_NAME_PREFIX = "core-cc-prefetch-";
+
+    private final InputsPrefetchConfiguration inputsPrefetchConfiguration;
+    private final ExecutorService inputsPrefetchExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name(PREFETCH_THREAD_NAME_PREFIX, 0).factory());
+
+    public InputsPrefetcher(final InputsPrefetchConfiguration inputsPrefetchConfiguration) {
+        this.inputsPrefetchConfiguration = inputsPrefetchConfiguration;
+    }
+
+    <T> CompletableFuture<T> prefetch(final PrefetchedInput input, final Supplier<T> importer) {
+        return prefetch(input, importer, importedInput -> { });
+    }
+
+    /**
+     * When the prefetched input is abandoned, because it timed out or was cancelled, its import is interrupted.
+     * An input that is imported anyway is given to the discarder instead, as nobody will use it.
+     */
+    <T> CompletableFuture<T> prefetch(final PrefetchedInput input, final Supplier<T> importer, final Consumer<T> discarder) {
+        // Task id is propagated to import logs
+        final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        final CompletableFuture<T> prefetchedInput = new CompletableFuture<>();
+        final Future<?> importTask = inputsPrefetchExecutor.submit(() -> {
+            if (contextMap != null) {
+                MDC.setContextMap(contextMap);
+            }
+            try {
+                final T importedInput = importer.get();
+                if (!prefetchedInput.complete(importedInput)) {
+                    discarder.accept(importedInput);
+                }
+            } catch (final RuntimeException | Error e) {
+                prefetchedInput.completeExceptionally(e);
+            } finally {
+                MDC.clear();
+            }
+        });
+        prefetchedInput.orTimeout(getTimeoutInSeconds(input), TimeUnit.SECONDS)
+                .whenComplete((importedInput, failure) -> {
+                    if (failure != null) {
+                        importTask.cancel(true);
+                    }
+                });
+        return prefetchedInput;
+    }
+
+    /**
+     * Cancels given prefetched input once it is not needed anymore. If it is already imported, it is given to the discarder.
+     */
+    static <T> void cancel(final CompletableFuture<T> prefetchedInput, final Consumer<T> discarder) {
+        if (!prefetchedInput.cancel(true) && !prefetchedInput.isCompletedExceptionally()) {
+            discarder.accept(prefetchedInput.join());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        inputsPrefetchExecutor.shutdownNow();
+    }
+
+    static <T> T join(final PrefetchedInput input, final CompletableFuture<T> prefetchedInput) {
+        try {
+            return prefetchedInput.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                throw new CoreCCInvalidDataException(String.format("Import of %s input timed out", input), e.getCause());
+            }
+            throw e;
+        }
+    }
+
+    private long getTimeoutInSeconds(final PrefetchedInput input) {
+        return switch (input) {
+            case RAO_REQUEST -> inputsPrefetchConfiguration.getRaoRequestTimeoutInSeconds();
+            case VIRTUAL_HUBS -> inputsPrefetchConfiguration.getVirtualHubsTimeoutInSeconds();
+            case CGM, DC_CGM -> inputsPrefetchConfiguration.getCgmTimeoutInSeconds();
+        };
+    }
+}
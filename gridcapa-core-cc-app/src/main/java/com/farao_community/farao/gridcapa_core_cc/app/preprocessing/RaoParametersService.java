@@ -9,6 +9,7 @@ package com.farao_community.farao.gridcapa_core_cc.app.preprocessing;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.Property;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
 import com.farao_community.farao.gridcapa_core_cc.app.util.NamingRules;
+import com.farao_community.farao.gridcapa_core_cc.app.util.UploadBuffer;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.openrao.raoapi.json.JsonRaoParameters;
@@ -22,8 +23,6 @@ import com.powsybl.openrao.virtualhubs.VirtualHubsConfiguration;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -54,10 +53,10 @@ public class RaoParametersService {
 
     public String uploadJsonRaoParameters(RequestMessage requestMessage, VirtualHubsConfiguration virtualHubsConfiguration, String destinationKey) {
         RaoParameters raoParameters = createRaoParametersFromRequest(requestMessage, virtualHubsConfiguration);
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        UploadBuffer outputStream = new UploadBuffer();
         JsonRaoParameters.write(raoParameters, outputStream);
         String jsonRaoParametersFilePath = String.format(NamingRules.S_INPUTS_S, destinationKey, NamingRules.JSON_RAO_PARAMETERS_FILE_NAME);
-        minioAdapter.uploadArtifact(jsonRaoParametersFilePath, new ByteArrayInputStream(outputStream.toByteArray()));
+        minioAdapter.uploadArtifact(jsonRaoParametersFilePath, outputStream.toInputStream());
         return jsonRaoParametersFilePath;
     }
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.CbcoraCacheConfiguration;
+import com.farao_community.farao.gridcapa_core_cc.app.util.NamingRules;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.io.fbconstraint.FbConstraintCreationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of CBCORA downloads and of the CRACs created from them, see {@link CbcoraCacheConfiguration}.
+ * <p>
+ * CBCORA content is kept per business day, identified by its URL without query parameters and by its version
+ * (ETag or last modification date, as for {@link InputFileCache}), so that it is downloaded once for all timestamps
+ * and downloaded again once updated. The CRAC creation context of each timestamp is kept as well: it is created
+ * during preprocessing and needed again by the CNE export of the same run, on a network read from the same IIDM file.
+ * <p>
+ * The parsed CBCORA document itself is not kept: the FbConstraint importer only reads raw content, so the cached
+ * XML is still parsed once per timestamp during preprocessing.
+ */
+@Component
+public class CbcoraCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CbcoraCache.class);
+
+    private final CbcoraCacheConfiguration cbcoraCacheConfiguration;
+    private final Map<String, CompletableFuture<byte[]>> cachedContents = new ConcurrentHashMap<>();
+    private final Queue<String> cachedDays = new ConcurrentLinkedQueue<>();
+    private final Map<CreationContextKey, FbConstraintCreationContext> cachedCreationContexts;
+
+    public CbcoraCache(final CbcoraCacheConfiguration cbcoraCacheConfiguration) {
+        this.cbcoraCacheConfiguration = cbcoraCacheConfiguration;
+        this.cachedCreationContexts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<CreationContextKey, FbConstraintCreationContext> eldest) {
+                return size() > cbcoraCacheConfiguration.getMaxCachedTimestamps();
+            }
+        };
+    }
+
+    /**
+     * Content is not kept when its version is unknown, as there would be no way to know it has been updated.
+     */
+    public byte[] getContent(final String cbcoraUrl, final String version, final Supplier<byte[]> downloader) {
+        if (version == null) {
+            return downloader.get();
+        }
+        final String key = NamingRules.removeUrlQuery(cbcoraUrl) + "|" + version;
+        final CompletableFuture<byte[]> downloadedContent = new CompletableFuture<>();
+        final CompletableFuture<byte[]> existingContent = cachedContents.putIfAbsent(key, downloadedContent);
+        if (existingContent != null) {
+            return join(existingContent);
+        }
+        cachedDays.add(key);
+        evictOldestDays();
+        try {
+            final byte[] content = downloader.get();
+            downloadedContent.complete(content);
+            return content;
+        } catch (final RuntimeException e) {
+            cachedContents.remove(key, downloadedContent);
+            downloadedContent.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Creation contexts are only reused within a same run and for a same network: a task run again, for instance
+     * with a corrected CGM or with the DC CGM instead, creates its CRAC again.
+     * They are only kept when CRAC creation succeeded, so that a failure can be retried by next import.
+     */
+    public FbConstraintCreationContext getCreationContext(final String cbcoraUrl,
+                                                          final String version,
+                                                          final OffsetDateTime timestamp,
+                                                          final String runId,
+                                                          final Network network,
+                                                          final Supplier<FbConstraintCreationContext> importer) {
+        if (runId == null) {
+            return importer.get();
+        }
+        final CreationContextKey key = new CreationContextKey(NamingRules.removeUrlQuery(cbcoraUrl), version,
+                timestamp.toInstant().toEpochMilli(), runId, network.getId());
+        synchronized (cachedCreationContexts) {
+            final FbConstraintCreationContext cachedCreationContext = cachedCreationContexts.get(key);
+            if (cachedCreationContext != null) {
+                LOGGER.info("Reusing CRAC already created for timestamp {}", timestamp);
+                return cachedCreationContext;
+            }
+        }
+        final FbConstraintCreationContext creationContext = importer.get();
+        if (creationContext.isCreationSuccessful()) {
+            synchronized (cachedCreationContexts) {
+                cachedCreationContexts.put(key, creationContext);
+            }
+        }
+        return creationContext;
+    }
+
+    /**
+     * CRACs created with previous CRAC creation parameters are not reused.
+     */
+    public void clearCreationContexts() {
+        synchronized (cachedCreationContexts) {
+            cachedCreationContexts.clear();
+        }
+    }
+
+    private void evictOldestDays() {
+        while (cachedDays.size() > cbcoraCacheConfiguration.getMaxCachedDays()) {
+            final String evictedKey = cachedDays.poll();
+            if (evictedKey != null) {
+                cachedContents.remove(evictedKey);
+            }
+        }
+    }
+
+    private static byte[] join(final CompletableFuture<byte[]> content) {
+        try {
+            return content.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record CreationContextKey(String cbcoraUrl, String version, long timestamp, String runId, String networkId) {
+    }
+}
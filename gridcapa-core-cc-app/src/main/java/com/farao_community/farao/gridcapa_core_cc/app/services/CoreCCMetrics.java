@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.AbstractCoreCCException;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoResult;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Durations of the stages of a task and of the whole task, exposed as timers with percentile histograms
+ * so that tail latency can be followed per stage.
+ * <p>
+ * Timers are tagged with the stage, the outcome (success or failure) and an error code: the code of the thrown
+ * Core CC exception for stages, the error code written in metadata for tasks.
+ * Stages are timed where they are called, so that a stage covers the same work whichever way its inputs are imported.
+ */
+@Component
+public class CoreCCMetrics {
+
+    static final String STAGE_TIMER = "gridcapa.core.cc.stage";
+    static final String TASK_TIMER = "gridcapa.core.cc.task";
+    static final String SUCCESS = "success";
+    static final String FAILURE = "failure";
+    static final String NO_ERROR = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public CoreCCMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public enum Stage {
+        /** Inputs parsed while being downloaded, such as RAO request and virtual hubs: duration includes the download. */
+        INPUTS_IMPORT("inputs-import"),
+        /** Download and extraction of a CGM zip, whether all its CGMs or only those of the task are extracted. */
+        UNZIP("unzip"),
+        /** Includes the Core CC normalization of the imported network. */
+        UCT_IMPORT("uct-import"),
+        NETWORK_UPLOAD("network-upload"),
+        /** Includes the download of the CBCORA file when it is not cached yet. */
+        CRAC_CREATION("crac-creation"),
+        RAO("rao"),
+        CNE_EXPORT("cne-export"),
+        UCTE_EXPORT("ucte-export"),
+        RAO_RESULT_EXPORT("rao-result-export"),
+        METADATA_EXPORT("metadata-export");
+
+        private final String tag;
+
+        Stage(final String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    /**
+     * Checked exceptions thrown by the stage, such as I/O failures of exports, are thrown again as is.
+     */
+    public <T, E extends Exception> T record(final Stage stage, final StageSupplier<T, E> action) throws E {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            final T result = action.get();
+            stop(sample, stage, null);
+            return result;
+        } catch (final Exception e) {
+            stop(sample, stage, e);
+            throw e;
+        }
+    }
+
+    public <E extends Exception> void record(final Stage stage, final StageRunnable<E> action) throws E {
+        record(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * For stages that do not complete on the thread that started them, such as asynchronous RAO.
+     * The returned sample is given back to {@link #stop(Timer.Sample, Stage, Throwable)}.
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(final Timer.Sample sample, final Stage stage, final Throwable failure) {
+        sample.stop(Timer.builder(STAGE_TIMER)
+                .description("Duration of a Core CC task stage")
+                .tag("stage", stage.getTag())
+                .tag("outcome", failure == null ? SUCCESS : FAILURE)
+                .tag("error_code", failure == null ? NO_ERROR : getErrorCode(failure))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records the duration of a task, from the reception of its request to the export of its outputs.
+     */
+    public void recordTask(final InternalCoreCCRequest coreCCRequest) {
+        if (coreCCRequest.getRequestReceivedInstant() == null) {
+            return;
+        }
+        final HourlyRaoResult hourlyRaoResult = coreCCRequest.getHourlyRaoResult();
+        final boolean success = hourlyRaoResult != null && hourlyRaoResult.getStatus() == HourlyRaoResult.Status.SUCCESS;
+        final String errorCode;
+        if (success) {
+            errorCode = NO_ERROR;
+        } else {
+            errorCode = hourlyRaoResult != null ? hourlyRaoResult.getErrorCodeString() : HourlyRaoResult.ErrorCode.UNKNOWN_FAILURE.getCode();
+        }
+        Timer.builder(TASK_TIMER)
+                .description("Duration of a Core CC task")
+                .tag("outcome", success ? SUCCESS : FAILURE)
+                .tag("error_code", errorCode)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.between(coreCCRequest.getRequestReceivedInstant(), Instant.now()));
+    }
+
+    private static String getErrorCode(final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof final AbstractCoreCCException coreCCException ? coreCCException.getCode() : cause.getClass().getSimpleName();
+    }
+
+    @FunctionalInterface
+    public interface StageSupplier<T, E extends Exception> {
+        T get() throws E;
+    }
+
+    @FunctionalInterface
+    public interface StageRunnable<E extends Exception> {
+        void run() throws E;
+    }
+}
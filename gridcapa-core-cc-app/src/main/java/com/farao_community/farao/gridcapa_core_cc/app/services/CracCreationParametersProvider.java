@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInternalException;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.CracCreationParametersConfiguration;
+import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
+import com.powsybl.openrao.data.crac.api.parameters.JsonCracCreationParameters;
+import com.powsybl.openrao.data.crac.io.fbconstraint.parameters.FbConstraintCracCreationParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.OffsetDateTime;
+
+/**
+ * Provides CRAC creation parameters, read once from their JSON file instead of at each CRAC import.
+ * <p>
+ * {@link CracCreationParameters} is mutable and has no copy method: each call gets its own parameters, created from
+ * the validated JSON kept in memory, so that callers can modify them, as FbConstraint imports do with their
+ * timestamp extension.
+ * When an external file is configured, its modification date is checked at each call and parameters are read
+ * again when it changed: CRACs created with previous parameters are then removed from {@link CbcoraCache}.
+ * An invalid file is rejected and previous parameters are kept.
+ */
+@Component
+public class CracCreationParametersProvider {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CracCreationParametersProvider.class);
+    static final String CRAC_CREATION_PARAMETERS_JSON = "/crac/cracCreationParameters.json";
+
+    private final Path externalFile;
+    private final CbcoraCache cbcoraCache;
+    private volatile Template template;
+
+    public CracCreationParametersProvider(final CracCreationParametersConfiguration cracCreationParametersConfiguration,
+                                          final CbcoraCache cbcoraCache) {
+        this.cbcoraCache = cbcoraCache;
+        final String file = cracCreationParametersConfiguration.getFile();
+        this.externalFile = file == null || file.isBlank() ? null : Path.of(file);
+        this.template = externalFile == null ? readPackagedParameters() : readExternalFile(externalFile);
+    }
+
+    public CracCreationParameters getCracCreationParameters() {
+        return read(getTemplate().content());
+    }
+
+    public CracCreationParameters getFbConstraintCracCreationParameters(final OffsetDateTime timestamp) {
+        final CracCreationParameters cracCreationParameters = getCracCreationParameters();
+        final FbConstraintCracCreationParameters fbConstraintCracCreationParameters = new FbConstraintCracCreationParameters();
+        fbConstraintCracCreationParameters.setTimestamp(timestamp);
+        cracCreationParameters.addExtension(FbConstraintCracCreationParameters.class, fbConstraintCracCreationParameters);
+        return cracCreationParameters;
+    }
+
+    private Template getTemplate() {
+        if (externalFile != null) {
+            reloadIfModified();
+        }
+        return template;
+    }
+
+    private void reloadIfModified() {
+        final FileTime lastModifiedTime = getLastModifiedTime(externalFile);
+        if (lastModifiedTime == null || lastModifiedTime.equals(template.lastModifiedTime())) {
+            return;
+        }
+        synchronized (this) {
+            if (lastModifiedTime.equals(template.lastModifiedTime())) {
+                return;
+            }
+            try {
+                template = readExternalFile(externalFile);
+                cbcoraCache.clearCreationContexts();
+            } catch (final CoreCCInternalException e) {
+                LOGGER.warn("Modified CRAC creation parameters file {} is invalid, previous parameters are kept", externalFile, e);
+                template = template.withLastModifiedTime(lastModifiedTime);
+            }
+        }
+    }
+
+    private static Template readPackagedParameters() {
+        try (InputStream inputStream = CracCreationParametersProvider.class.getResourceAsStream(CRAC_CREATION_PARAMETERS_JSON)) {
+            if (inputStream == null) {
+                throw new CoreCCInternalException(String.format("CRAC creation parameters file %s not found", CRAC_CREATION_PARAMETERS_JSON));
+            }
+            return validate(inputStream.readAllBytes(), null, CRAC_CREATION_PARAMETERS_JSON);
+        } catch (final IOException e) {
+            throw new CoreCCInternalException(String.format("CRAC creation parameters file %s could not be read", CRAC_CREATION_PARAMETERS_JSON), e);
+        }
+    }
+
+    private static Template readExternalFile(final Path file) {
+        try {
+            // Modification date is read first: a modification made while reading is detected by next call
+            final FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+            return validate(Files.readAllBytes(file), lastModifiedTime, file.toString());
+        } catch (final IOException e) {
+            throw new CoreCCInternalException(String.format("CRAC creation parameters file %s could not be read", file), e);
+        }
+    }
+
+    private static Template validate(final byte[] content, final FileTime lastModifiedTime, final String fileName) {
+        try {
+            read(content);
+        } catch (final RuntimeException e) {
+            throw new CoreCCInternalException(String.format("CRAC creation parameters file %s is invalid", fileName), e);
+        }
+        LOGGER.info("CRAC creation parameters read from file: {}", fileName);
+        return new Template(content, lastModifiedTime);
+    }
+
+    private static CracCreationParameters read(final byte[] content) {
+        return JsonCracCreationParameters.read(new ByteArrayInputStream(content));
+    }
+
+    private static FileTime getLastModifiedTime(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (final IOException e) {
+            LOGGER.warn("CRAC creation parameters file {} could not be checked, previous parameters are kept", file);
+            return null;
+        }
+    }
+
+    private record Template(byte[] content, FileTime lastModifiedTime) {
+        Template withLastModifiedTime(final FileTime newLastModifiedTime) {
+            return new Template(content, newLastModifiedTime);
+        }
+    }
+}
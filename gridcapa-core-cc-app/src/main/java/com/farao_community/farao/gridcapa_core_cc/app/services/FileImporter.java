@@ -13,15 +13,14 @@ import com.farao_community.farao.gridcapa_core_cc.app.entities.CgmsAndXmlHeader;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_response.ResponseMessage;
 import com.farao_community.farao.gridcapa_core_cc.app.util.JaxbUtil;
+import com.farao_community.farao.gridcapa_core_cc.app.util.RaoRequestReader;
 import com.farao_community.farao.gridcapa_core_cc.app.util.NamingRules;
 import com.farao_community.farao.gridcapa_core_cc.app.util.ZipUtil;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
-import com.powsybl.openrao.data.crac.api.parameters.JsonCracCreationParameters;
 import com.powsybl.openrao.data.crac.io.fbconstraint.FbConstraintCreationContext;
 import com.powsybl.openrao.data.crac.io.fbconstraint.FbConstraintImporter;
-import com.powsybl.openrao.data.crac.io.fbconstraint.parameters.FbConstraintCracCreationParameters;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgram;
 import com.powsybl.openrao.data.refprog.refprogxmlimporter.RefProgImporter;
@@ -32,6 +31,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -44,9 +44,13 @@ import java.nio.file.Paths;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
 
 /**
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
@@ -55,12 +59,18 @@ import java.util.Set;
 @Service
 public class FileImporter {
 
-    public static final String CRAC_CREATION_PARAMETERS_JSON = "/crac/cracCreationParameters.json";
     private final UrlValidationService urlValidationService;
+    private final InputFileCache inputFileCache;
+    private final CbcoraCache cbcoraCache;
+    private final CracCreationParametersProvider cracCreationParametersProvider;
     private static final Logger LOGGER = LoggerFactory.getLogger(FileImporter.class);
 
-    public FileImporter(UrlValidationService urlValidationService) {
+    public FileImporter(UrlValidationService urlValidationService, InputFileCache inputFileCache, CbcoraCache cbcoraCache,
+                        CracCreationParametersProvider cracCreationParametersProvider) {
         this.urlValidationService = urlValidationService;
+        this.inputFileCache = inputFileCache;
+        this.cbcoraCache = cbcoraCache;
+        this.cracCreationParametersProvider = cracCreationParametersProvider;
     }
 
     public Network importNetworkFromUrl(String cgmUrl) {
@@ -68,7 +78,7 @@ public class FileImporter {
     }
 
     public ReferenceProgram importReferenceProgram(CoreCCFileResource refProgFile, OffsetDateTime timestamp) {
-        try (InputStream refProgStream = urlValidationService.openUrlStream(refProgFile.getUrl())) {
+        try (InputStream refProgStream = inputFileCache.openUrlStream(refProgFile.getUrl())) {
             return RefProgImporter.importRefProg(refProgStream, timestamp);
         } catch (IOException e) {
             throw new CoreCCInvalidDataException(String.format("Cannot download reference program file from URL '%s'", refProgFile.getUrl()), e);
@@ -83,14 +93,43 @@ public class FileImporter {
         }
     }
 
-    public FbConstraintCreationContext importCrac(String cbcoraUrl, OffsetDateTime targetProcessDateTime, Network network) {
-        CracCreationParameters cracCreationParameters = getCimCracCreationParameters();
-        cracCreationParameters.addExtension(FbConstraintCracCreationParameters.class, new FbConstraintCracCreationParameters());
-        cracCreationParameters.getExtension(FbConstraintCracCreationParameters.class).setTimestamp(targetProcessDateTime);
-        try (InputStream cracInputStream = urlValidationService.openUrlStream(cbcoraUrl)) {
-            return (FbConstraintCreationContext) new FbConstraintImporter().importData(cracInputStream, cracCreationParameters, network);
-        } catch (Exception e) {
-            throw new CoreCCInvalidDataException(String.format("Cannot download cbcora file from URL '%s'", cbcoraUrl), e);
+    /**
+     * CBCORA is only downloaded once per business day, and CRAC is only created once per timestamp and run,
+     * see {@link CbcoraCache}. Cached content is parsed again for each timestamp.
+     * CBCORA version is read from the connection its content is downloaded from, when it is not cached yet.
+     */
+    public FbConstraintCreationContext importCrac(String cbcoraUrl, OffsetDateTime targetProcessDateTime, Network network, String runId) {
+        try (InputFileCache.VersionedFile cbcoraFile = inputFileCache.openVersionedFile(cbcoraUrl)) {
+            return cbcoraCache.getCreationContext(cbcoraUrl, cbcoraFile.getVersion(), targetProcessDateTime, runId, network, () -> {
+                byte[] cbcoraContent = cbcoraCache.getContent(cbcoraUrl, cbcoraFile.getVersion(), () -> readContent(cbcoraFile, cbcoraUrl));
+                try (InputStream cracInputStream = new ByteArrayInputStream(cbcoraContent)) {
+                    return readCrac(cracInputStream, targetProcessDateTime, network);
+                } catch (Exception e) {
+                    throw new CoreCCInvalidDataException(String.format("Cannot import cbcora file from URL '%s'", cbcoraUrl), e);
+                }
+            });
+        }
+    }
+
+    private static byte[] readContent(InputFileCache.VersionedFile file, String fileUrl) {
+        try (InputStream inputStream = file.openStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new CoreCCInvalidDataException(String.format("Cannot download cbcora file from URL '%s'", fileUrl), e);
+        }
+    }
+
+    private FbConstraintCreationContext readCrac(InputStream cracInputStream, OffsetDateTime targetProcessDateTime, Network network) {
+        CracCreationParameters cracCreationParameters = cracCreationParametersProvider.getFbConstraintCracCreationParameters(targetProcessDateTime);
+        return (FbConstraintCreationContext) new FbConstraintImporter().importData(cracInputStream, cracCreationParameters, network);
+    }
+
+    /**
+     * Version of the file, see {@link InputFileCache.VersionedFile#getVersion()}. File content is not downloaded.
+     */
+    public String getFileVersion(CoreCCFileResource fileResource) {
+        try (InputFileCache.VersionedFile file = inputFileCache.openVersionedFile(fileResource.getUrl())) {
+            return file.getVersion();
         }
     }
 
@@ -99,21 +138,29 @@ public class FileImporter {
     }
 
     public RequestMessage importRaoRequest(CoreCCFileResource raoRequestFileResource) {
-        try (InputStream raoRequestInputStream = urlValidationService.openUrlStream(raoRequestFileResource.getUrl())) {
+        try (InputStream raoRequestInputStream = inputFileCache.openUrlStream(raoRequestFileResource.getUrl())) {
             return JaxbUtil.unmarshalContent(RequestMessage.class, raoRequestInputStream);
         } catch (Exception e) {
             throw new CoreCCInvalidDataException(String.format("Cannot download rao request file from URL '%s'", raoRequestFileResource.getUrl()), e);
         }
     }
 
+    /**
+     * Only reads the header and the request item matching given instant, see {@link RaoRequestReader}.
+     */
+    public RequestMessage importRaoRequest(CoreCCFileResource raoRequestFileResource, Instant instant) {
+        try (InputStream raoRequestInputStream = inputFileCache.openUrlStream(raoRequestFileResource.getUrl())) {
+            return RaoRequestReader.readRequestMessage(raoRequestInputStream, instant);
+        } catch (Exception e) {
+            throw new CoreCCInvalidDataException(String.format("Cannot download rao request file from URL '%s'", raoRequestFileResource.getUrl()), e);
+        }
+    }
+
     public CgmsAndXmlHeader importCgmsZip(CoreCCFileResource cgmsZimFileResource) {
-        try (InputStream cgmsZipInputStream = urlValidationService.openUrlStream(cgmsZimFileResource.getUrl())) {
+        try (InputStream cgmsZipInputStream = inputFileCache.openUrlStream(cgmsZimFileResource.getUrl())) {
             LOGGER.info("Import of cgms zip from {} file ", cgmsZimFileResource.getFilename());
 
-            // Setting permissions
-            FileAttribute<Set<PosixFilePermission>> attr = PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------"));
-            String tmpInputsPath = Files.createTempDirectory("gridcapa-core-cc-temp-dir", attr).toString();
-            Path tmpCgmInputsPath = Files.createDirectories(Paths.get(tmpInputsPath + File.separator + "cgm"), attr);
+            Path tmpCgmInputsPath = createTmpCgmInputsDirectory();
             List<Path> unzippedPaths = ZipUtil.unzipInputStream(cgmsZipInputStream, tmpCgmInputsPath);
             Path xmlHeaderPath = unzippedPaths.stream().filter(p -> p.toFile().getName().matches(NamingRules.CGM_XML_HEADER_NAME))
                     .findFirst().orElseThrow(() -> new CoreCCInvalidDataException("CGM zip does not contain XML header"));
@@ -125,13 +172,55 @@ public class FileImporter {
         }
     }
 
+    /**
+     * Only extracts the XML header and the CGM of given instant from the zip, instead of the CGMs of the whole business day.
+     * Zip is read from the local files cache, so that its entries can be read in any order, see {@link InputFileCache#readFile}.
+     */
+    public CgmsAndXmlHeader importCgmsZip(CoreCCFileResource cgmsZimFileResource, Instant instant) {
+        try {
+            LOGGER.info("Import of cgm for {} from cgms zip {} file ", instant, cgmsZimFileResource.getFilename());
+            Path tmpCgmInputsPath = createTmpCgmInputsDirectory();
+            return inputFileCache.readFile(cgmsZimFileResource.getUrl(), cgmsZipPath -> {
+                try (ZipFile cgmsZipFile = new ZipFile(cgmsZipPath.toFile())) {
+                    ResponseMessage xmlHeader = readXmlHeader(cgmsZipFile);
+                    List<Path> networkPaths = CgmsAndXmlHeader.findCgmFileName(xmlHeader, instant)
+                            .map(cgmFileName -> ZipUtil.unzipEntries(cgmsZipFile, tmpCgmInputsPath,
+                                    entryName -> entryName.contains(cgmFileName) && getEntryFileName(entryName).matches(NamingRules.CGM_FILE_NAME)))
+                            .orElse(List.of());
+                    return new CgmsAndXmlHeader(xmlHeader, networkPaths);
+                }
+            });
+        } catch (Exception e) {
+            throw new CoreCCInvalidDataException(String.format("Cannot download CGM file from URL '%s'", cgmsZimFileResource.getUrl()), e);
+        }
+    }
+
+    private static ResponseMessage readXmlHeader(ZipFile cgmsZipFile) throws IOException {
+        ZipEntry xmlHeaderEntry = cgmsZipFile.stream()
+                .filter(entry -> !entry.isDirectory() && getEntryFileName(entry.getName()).matches(NamingRules.CGM_XML_HEADER_NAME))
+                .findFirst().orElseThrow(() -> new CoreCCInvalidDataException("CGM zip does not contain XML header"));
+        try (InputStream xmlHeaderInputStream = cgmsZipFile.getInputStream(xmlHeaderEntry)) {
+            return JaxbUtil.unmarshalContent(ResponseMessage.class, xmlHeaderInputStream);
+        }
+    }
+
+    private static String getEntryFileName(String entryName) {
+        return Path.of(entryName).getFileName().toString();
+    }
+
+    private static Path createTmpCgmInputsDirectory() throws IOException {
+        // Setting permissions
+        FileAttribute<Set<PosixFilePermission>> attr = PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------"));
+        String tmpInputsPath = Files.createTempDirectory("gridcapa-core-cc-temp-dir", attr).toString();
+        return Files.createDirectories(Paths.get(tmpInputsPath + File.separator + "cgm"), attr);
+    }
+
     CracCreationParameters getCimCracCreationParameters() {
-        LOGGER.info("Importing Crac Creation Parameters file: {}", CRAC_CREATION_PARAMETERS_JSON);
-        return JsonCracCreationParameters.read(getClass().getResourceAsStream(CRAC_CREATION_PARAMETERS_JSON));
+        return cracCreationParametersProvider.getCracCreationParameters();
     }
 
     public VirtualHubsConfiguration importVirtualHubs(CoreCCFileResource virtualHubsFileResource) {
-        try (InputStream virtualHubsInputStream = urlValidationService.openUrlStream(virtualHubsFileResource.getUrl())) {
+        try (InputStream virtualHubsInputStream = inputFileCache.openUrlStream(virtualHubsFileResource.getUrl())) {
             LOGGER.info("Import of virtual hubs from {} file ", virtualHubsFileResource.getFilename());
             return XmlVirtualHubsConfiguration.importConfiguration(virtualHubsInputStream);
         } catch (Exception e) {
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInternalException;
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.InputFileCacheConfiguration;
+import com.farao_community.farao.gridcapa_core_cc.app.util.NamingRules;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local on-disk cache of input files, shared by all tasks of the instance.
+ * <p>
+ * Files are identified by their URL without query parameters, as pre-signed URLs of a same file differ from one task
+ * to another, and by the ETag (or last modification date) returned by the server: an updated input is downloaded again.
+ * When the server gives no way to know the file version, it is not cached.
+ * When several tasks ask for the same file at the same time, only one of them downloads it while the others wait.
+ * Least recently used files are deleted once the cache exceeds its maximum size.
+ */
+@Component
+public class InputFileCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InputFileCache.class);
+    private static final String ETAG_HEADER = "ETag";
+
+    private final UrlValidationService urlValidationService;
+    private final InputFileCacheConfiguration inputFileCacheConfiguration;
+    private final Map<String, CompletableFuture<Path>> cachedFiles = new ConcurrentHashMap<>();
+    // Sizes of cached files, in access order: first entry is the least recently used one
+    private final LinkedHashMap<String, Long> cachedFileSizes = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedFilesTotalSize;
+    private Path cacheDirectory;
+
+    public InputFileCache(final UrlValidationService urlValidationService,
+                          final InputFileCacheConfiguration inputFileCacheConfiguration) {
+        this.urlValidationService = urlValidationService;
+        this.inputFileCacheConfiguration = inputFileCacheConfiguration;
+    }
+
+    public InputStream openUrlStream(final String url) {
+        final URLConnection connection = urlValidationService.openUrlConnection(url);
+        return openContent(connection, url, getVersion(connection));
+    }
+
+    /**
+     * Connects to the URL to read the file version, see {@link VersionedFile#getVersion()}, without downloading
+     * its content until it is opened: callers keeping their own copy of each file version only send one request.
+     */
+    public VersionedFile openVersionedFile(final String url) {
+        final URLConnection connection = urlValidationService.openUrlConnection(url);
+        return new VersionedFile(url, connection, getVersion(connection));
+    }
+
+    /**
+     * Gives a local copy of the file to given reader, for readers needing random access to it, like zip readers.
+     * Cached file is read where it is, without being copied. When the file cannot be cached, it is downloaded
+     * to a temporary file deleted once read.
+     */
+    public <T> T readFile(final String url, final CachedFileReader<T> reader) throws IOException {
+        final URLConnection connection = urlValidationService.openUrlConnection(url);
+        final String version = getVersion(connection);
+        if (version == null) {
+            return readTemporaryCopy(getInputStream(connection, url), reader);
+        }
+        final String key = computeKey(url, version);
+        final Path path = getCachedFile(connection, url, key);
+        updateAccessOrder(key);
+        try {
+            return reader.read(path);
+        } catch (final NoSuchFileException e) {
+            // File may have been evicted in the meantime: it is read from the server again
+            LOGGER.warn("Cached input file from URL '{}' could not be read, downloading it again", NamingRules.removeUrlQuery(url));
+            return readTemporaryCopy(urlValidationService.openUrlStream(url), reader);
+        }
+    }
+
+    private InputStream openContent(final URLConnection connection, final String url, final String version) {
+        if (version == null) {
+            return getInputStream(connection, url);
+        }
+        final String key = computeKey(url, version);
+        return openCachedFile(key, getCachedFile(connection, url, key), url);
+    }
+
+    private Path getCachedFile(final URLConnection connection, final String url, final String key) {
+        final CompletableFuture<Path> download = new CompletableFuture<>();
+        final CompletableFuture<Path> cachedFile = cachedFiles.putIfAbsent(key, download);
+        if (cachedFile != null) {
+            // File content is not needed: it has already been downloaded, or is being downloaded by another task
+            disconnect(connection);
+            return join(cachedFile);
+        }
+        try {
+            final Path path = download(connection, url, key);
+            download.complete(path);
+            return path;
+        } catch (final RuntimeException e) {
+            cachedFiles.remove(key, download);
+            download.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Path download(final URLConnection connection, final String url, final String key) {
+        final Path directory = getCacheDirectory();
+        Path tmpPath = null;
+        try (InputStream inputStream = getInputStream(connection, url)) {
+            tmpPath = Files.createTempFile(directory, key, ".part");
+            Files.copy(inputStream, tmpPath, StandardCopyOption.REPLACE_EXISTING);
+            final Path path = Files.move(tmpPath, directory.resolve(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.info("Input file from URL '{}' added to local cache", NamingRules.removeUrlQuery(url));
+            registerFileSize(key, Files.size(path));
+            return path;
+        } catch (final IOException e) {
+            // Partially downloaded file is never moved into the cache, so it is deleted here
+            if (tmpPath != null) {
+                deleteQuietly(tmpPath);
+            }
+            throw new CoreCCInvalidDataException(String.format("Cannot download FileResource file from URL '%s'", url), e);
+        }
+    }
+
+    private InputStream openCachedFile(final String key, final Path path, final String url) {
+        try {
+            updateAccessOrder(key);
+            return Files.newInputStream(path);
+        } catch (final IOException e) {
+            // File may have been evicted in the meantime: it is read from the server again
+            LOGGER.warn("Cached input file from URL '{}' could not be read, downloading it again", NamingRules.removeUrlQuery(url));
+            return urlValidationService.openUrlStream(url);
+        }
+    }
+
+    private static <T> T readTemporaryCopy(final InputStream inputStream, final CachedFileReader<T> reader) throws IOException {
+        final Path tmpPath = Files.createTempFile("gridcapa-core-cc-input", null);
+        try (inputStream) {
+            Files.copy(inputStream, tmpPath, StandardCopyOption.REPLACE_EXISTING);
+            return reader.read(tmpPath);
+        } finally {
+            deleteQuietly(tmpPath);
+        }
+    }
+
+    private void updateAccessOrder(final String key) {
+        synchronized (cachedFileSizes) {
+            cachedFileSizes.get(key);
+        }
+    }
+
+    private void registerFileSize(final String key, final long size) {
+        synchronized (cachedFileSizes) {
+            cachedFileSizes.put(key, size);
+            cachedFilesTotalSize += size;
+            final Iterator<Map.Entry<String, Long>> leastRecentlyUsedFiles = cachedFileSizes.entrySet().iterator();
+            while (cachedFilesTotalSize > inputFileCacheConfiguration.getMaxSizeInBytes() && leastRecentlyUsedFiles.hasNext()) {
+                final Map.Entry<String, Long> evictedFile = leastRecentlyUsedFiles.next();
+                if (evictedFile.getKey().equals(key)) {
+                    // File that has just been downloaded is kept, even if it is bigger than the cache
+                    continue;
+                }
+                leastRecentlyUsedFiles.remove();
+                cachedFilesTotalSize -= evictedFile.getValue();
+                cachedFiles.remove(evictedFile.getKey());
+                deleteQuietly(cacheDirectory.resolve(evictedFile.getKey()));
+            }
+        }
+    }
+
+    private synchronized Path getCacheDirectory() {
+        if (cacheDirectory == null) {
+            try {
+                final String configuredDirectory = inputFileCacheConfiguration.getDirectory();
+                if (configuredDirectory == null || configuredDirectory.isBlank()) {
+                    cacheDirectory = Files.createTempDirectory("gridcapa-core-cc-input-cache");
+                } else {
+                    // Files left by a previous run are not indexed: they are removed
+                    cacheDirectory = Files.createDirectories(Path.of(configuredDirectory));
+                    FileUtils.cleanDirectory(cacheDirectory.toFile());
+                }
+            } catch (final IOException e) {
+                throw new CoreCCInternalException("Input files cache directory could not be created", e);
+            }
+        }
+        return cacheDirectory;
+    }
+
+    private static String getVersion(final URLConnection connection) {
+        final String etag = connection.getHeaderField(ETAG_HEADER);
+        if (etag != null && !etag.isBlank()) {
+            return etag;
+        }
+        final long lastModified = connection.getLastModified();
+        return lastModified > 0 ? Long.toString(lastModified) : null;
+    }
+
+    private static String computeKey(final String url, final String version) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] hash = digest.digest((NamingRules.removeUrlQuery(url) + "|" + version).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new CoreCCInternalException("Input files cache key could not be computed", e);
+        }
+    }
+
+    private static InputStream getInputStream(final URLConnection connection, final String url) {
+        try {
+            return connection.getInputStream();
+        } catch (final IOException e) {
+            throw new CoreCCInvalidDataException(String.format("Cannot download FileResource file from URL '%s'", url), e);
+        }
+    }
+
+    private static void disconnect(final URLConnection connection) {
+        if (connection instanceof final HttpURLConnection httpConnection) {
+            httpConnection.disconnect();
+        } else {
+            try {
+                connection.getInputStream().close();
+            } catch (final IOException e) {
+                // Nothing to do, connection content is not needed
+            }
+        }
+    }
+
+    private static Path join(final CompletableFuture<Path> cachedFile) {
+        try {
+            return cachedFile.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            LOGGER.warn("Cached input file {} could not be deleted", path);
+        }
+    }
+
+    /**
+     * File opened on the server whose content is only downloaded, or read from the cache, when opened.
+     * Connection is released on close when content was not needed.
+     */
+    public final class VersionedFile implements AutoCloseable {
+        private final String url;
+        private final URLConnection connection;
+        private final String version;
+        private boolean opened;
+
+        private VersionedFile(final String url, final URLConnection connection, final String version) {
+            this.url = url;
+            this.connection = connection;
+            this.version = version;
+        }
+
+        /**
+         * Version of the file as used to identify cached files: its ETag, or its last modification date.
+         * Null when the server gives no way to know it.
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        public InputStream openStream() {
+            opened = true;
+            return openContent(connection, url, version);
+        }
+
+        @Override
+        public void close() {
+            if (!opened) {
+                disconnect(connection);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface CachedFileReader<T> {
+        T read(Path path) throws IOException;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapterProperties;
+import io.minio.BucketExistsArgs;
+import io.minio.CopyObjectArgs;
+import io.minio.CopySource;
+import io.minio.Directive;
+import io.minio.MinioClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Copies files of the MinIO bucket of the application to outputs. Outputs that already exist in the bucket, such as
+ * the RAO result written by the rao-runner, are copied by MinIO itself instead of being downloaded and uploaded again;
+ * files stored elsewhere are still streamed through the application by the caller.
+ * Copied outputs get the same object name and user metadata as outputs uploaded with MinioAdapter, so that they are
+ * seen the same way by other GridCapa services. MinioAdapter cannot copy objects: the upload it would have done is
+ * recorded instead, and its object name and user metadata are reused for the copy.
+ */
+@Component
+public class MinioObjectCopier {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MinioObjectCopier.class);
+
+    private final MinioAdapterProperties minioAdapterProperties;
+    private final ObjectProvider<MinioClient> minioClientProvider;
+
+    public MinioObjectCopier(final MinioAdapterProperties minioAdapterProperties,
+                             final ObjectProvider<MinioClient> minioClientProvider) {
+        this.minioAdapterProperties = minioAdapterProperties;
+        this.minioClientProvider = minioClientProvider;
+    }
+
+    /**
+     * @return false when the file could not be copied by MinIO, so that it has to be uploaded by the caller
+     */
+    public boolean copyOutputForTimestamp(final String sourceUrl,
+                                          final String path,
+                                          final String targetProcess,
+                                          final String type,
+                                          final OffsetDateTime timestamp) {
+        final MinioClient minioClient = minioClientProvider.getIfAvailable();
+        if (minioClient == null) {
+            return false;
+        }
+        final Optional<String> sourceObject = getObjectInBucket(sourceUrl);
+        if (sourceObject.isEmpty()) {
+            LOGGER.debug("{} is not stored in bucket {}, it cannot be copied by MinIO", path, minioAdapterProperties.getBucket());
+            return false;
+        }
+        try {
+            final UploadRecordingMinioClient uploadRecordingMinioClient = new UploadRecordingMinioClient(minioClient);
+            new MinioAdapter(minioAdapterProperties, uploadRecordingMinioClient)
+                    .uploadOutputForTimestamp(path, new ByteArrayInputStream(new byte[0]), targetProcess, type, timestamp);
+            final PutObjectArgs uploadArgs = uploadRecordingMinioClient.getUploadArgs();
+            minioClient.copyObject(CopyObjectArgs.builder()
+                    .bucket(uploadArgs.bucket())
+                    .object(uploadArgs.object())
+                    .source(CopySource.builder().bucket(minioAdapterProperties.getBucket()).object(sourceObject.get()).build())
+                    .metadataDirective(Directive.REPLACE)
+                    .userMetadata(uploadArgs.userMetadata().entries().stream()
+                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+                    .build());
+            return true;
+        } catch (final Exception e) {
+            LOGGER.warn("{} could not be copied by MinIO, it will be uploaded: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Source URLs are pre-signed URLs: the object is in the bucket of the application when URL points to the same
+     * MinIO server and its path starts with the bucket name.
+     */
+    Optional<String> getObjectInBucket(final String url) {
+        try {
+            final URI uri = URI.create(url);
+            final URI minioUri = URI.create(minioAdapterProperties.getUrl());
+            final String bucketPrefix = "/" + minioAdapterProperties.getBucket() + "/";
+            if (!Objects.equals(uri.getScheme(), minioUri.getScheme())
+                    || !Objects.equals(uri.getHost(), minioUri.getHost())
+                    || getPort(uri) != getPort(minioUri)
+                    || uri.getPath() == null
+                    || !uri.getPath().startsWith(bucketPrefix)) {
+                return Optional.empty();
+            }
+            return Optional.of(uri.getPath().substring(bucketPrefix.length()));
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static int getPort(final URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    /**
+     * Records the upload requested by MinioAdapter without sending anything to MinIO.
+     */
+    private static final class UploadRecordingMinioClient extends MinioClient {
+        private PutObjectArgs uploadArgs;
+
+        private UploadRecordingMinioClient(final MinioClient minioClient) {
+            super(minioClient);
+        }
+
+        @Override
+        public boolean bucketExists(final BucketExistsArgs args) {
+            return true;
+        }
+
+        @Override
+        public ObjectWriteResponse putObject(final PutObjectArgs args) {
+            this.uploadArgs = args;
+            return null;
+        }
+
+        private PutObjectArgs getUploadArgs() {
+            if (uploadArgs == null) {
+                throw new IllegalStateException("MinioAdapter did not upload any object");
+            }
+            return uploadArgs;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.NetworkCacheConfiguration;
+import com.powsybl.iidm.network.Network;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps networks created during preprocessing for post-processing, see {@link NetworkCacheConfiguration}.
+ * <p>
+ * Networks are identified by the MinIO path of the IIDM file they were uploaded to, which is unique per task and timestamp.
+ * A network is released once its task is over; when it is missing (eviction, or restart of the service
+ * between preprocessing and post-processing), callers read it again from MinIO.
+ * Cached networks are shared: callers must not modify them.
+ */
+@Component
+public class NetworkCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkCache.class);
+
+    private final Map<String, SoftReference<Network>> cachedNetworks;
+
+    public NetworkCache(final NetworkCacheConfiguration networkCacheConfiguration) {
+        this.cachedNetworks = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, SoftReference<Network>> eldest) {
+                return size() > networkCacheConfiguration.getMaxCachedNetworks();
+            }
+        };
+    }
+
+    public void put(final String networkFileUrl, final Network network) {
+        synchronized (cachedNetworks) {
+            cachedNetworks.put(networkFileUrl, new SoftReference<>(network));
+        }
+    }
+
+    public Optional<Network> get(final String networkFileUrl) {
+        if (networkFileUrl == null) {
+            return Optional.empty();
+        }
+        final Network network;
+        synchronized (cachedNetworks) {
+            final SoftReference<Network> cachedNetwork = cachedNetworks.get(networkFileUrl);
+            network = cachedNetwork != null ? cachedNetwork.get() : null;
+        }
+        if (network == null) {
+            LOGGER.info("Network {} is not in cache anymore, it will be read from MinIO", networkFileUrl);
+        }
+        return Optional.ofNullable(network);
+    }
+
+    public void release(final String networkFileUrl) {
+        if (networkFileUrl == null) {
+            return;
+        }
+        synchronized (cachedNetworks) {
+            cachedNetworks.remove(networkFileUrl);
+        }
+    }
+}
@@ -12,11 +12,15 @@ import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoFailureResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import com.farao_community.farao.rao_runner.starter.AsynchronousRaoRunnerClient;
 import com.farao_community.farao.rao_runner.starter.RaoRunnerClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
  */
@@ -24,21 +28,18 @@ import org.springframework.stereotype.Service;
 public class RaoRunnerService {
     private static final Logger LOGGER = LoggerFactory.getLogger(RaoRunnerService.class);
     private final RaoRunnerClient raoRunnerClient;
+    private final AsynchronousRaoRunnerClient asynchronousRaoRunnerClient;
 
-    public RaoRunnerService(RaoRunnerClient raoRunnerClient) {
+    public RaoRunnerService(RaoRunnerClient raoRunnerClient, AsynchronousRaoRunnerClient asynchronousRaoRunnerClient) {
         this.raoRunnerClient = raoRunnerClient;
+        this.asynchronousRaoRunnerClient = asynchronousRaoRunnerClient;
     }
 
     public RaoSuccessResponse run(RaoRequest raoRequest) throws CoreCCInternalException {
         try {
             LOGGER.info("RAO request sent: {}", raoRequest);
             AbstractRaoResponse raoResponse = raoRunnerClient.runRao(raoRequest);
-            LOGGER.info("RAO response received: {}", raoResponse);
-            if (raoResponse.isRaoFailed()) {
-                final RaoFailureResponse failureResponse = (RaoFailureResponse) raoResponse;
-                throw new CoreCCRaoException("RAO run failed: " + failureResponse.getErrorMessage());
-            }
-            return (RaoSuccessResponse) raoResponse;
+            return checkRaoResponse(raoResponse);
         } catch (CoreCCRaoException e) {
             throw e;
         } catch (Exception e) {
@@ -46,4 +47,35 @@ public class RaoRunnerService {
         }
     }
 
+    /**
+     * Sends the RAO request without waiting for the rao-runner reply, so that the calling thread can go on
+     * with other tasks while the RAO is running. Reply timeout is the one of the AsyncAmqpTemplate.
+     * Returned future completes exceptionally with a {@link CoreCCRaoException} when RAO fails.
+     */
+    public CompletableFuture<RaoSuccessResponse> runAsync(RaoRequest raoRequest) {
+        LOGGER.info("RAO request sent asynchronously: {}", raoRequest);
+        final CompletableFuture<AbstractRaoResponse> raoResponseFuture;
+        try {
+            raoResponseFuture = asynchronousRaoRunnerClient.runRaoAsynchronously(raoRequest);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new CoreCCRaoException("RAO run failed", e));
+        }
+        return raoResponseFuture.handle((raoResponse, throwable) -> {
+            if (throwable != null) {
+                final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                throw new CoreCCRaoException("RAO run failed", cause);
+            }
+            return checkRaoResponse(raoResponse);
+        });
+    }
+
+    private static RaoSuccessResponse checkRaoResponse(AbstractRaoResponse raoResponse) {
+        LOGGER.info("RAO response received: {}", raoResponse);
+        if (raoResponse.isRaoFailed()) {
+            final RaoFailureResponse failureResponse = (RaoFailureResponse) raoResponse;
+            throw new CoreCCRaoException("RAO run failed: " + failureResponse.getErrorMessage());
+        }
+        return (RaoSuccessResponse) raoResponse;
+    }
+
 }
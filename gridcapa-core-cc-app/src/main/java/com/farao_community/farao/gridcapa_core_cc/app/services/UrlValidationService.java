@@ -16,6 +16,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.util.StringJoiner;
 
 /**
@@ -30,6 +31,17 @@ public class UrlValidationService {
     }
 
     public InputStream openUrlStream(String urlString) {
+        try {
+            return openUrlConnection(urlString).getInputStream();
+        } catch (IOException e) {
+            throw new CoreCCInvalidDataException(String.format("Cannot download FileResource file from URL '%s'", urlString), e);
+        }
+    }
+
+    /**
+     * Connects to the URL without reading its content, so that response headers such as ETag can be checked first.
+     */
+    public URLConnection openUrlConnection(String urlString) {
         if (urlWhitelistConfiguration.getWhitelist().stream().noneMatch(urlString::startsWith)) {
             StringJoiner sj = new StringJoiner(", ", "Whitelist: ", ".");
             urlWhitelistConfiguration.getWhitelist().forEach(sj::add);
@@ -37,7 +49,9 @@ public class UrlValidationService {
         }
         try {
             URL url = new URI(urlString).toURL();
-            return url.openStream();
+            URLConnection connection = url.openConnection();
+            connection.connect();
+            return connection;
         } catch (IOException | URISyntaxException | IllegalArgumentException e) {
             throw new CoreCCInvalidDataException(String.format("Cannot download FileResource file from URL '%s'", urlString), e);
         }
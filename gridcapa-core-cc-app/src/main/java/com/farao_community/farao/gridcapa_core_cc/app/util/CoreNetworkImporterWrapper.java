@@ -11,6 +11,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com}
@@ -18,6 +20,8 @@ import java.nio.file.Path;
 public final class CoreNetworkImporterWrapper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CoreNetworkImporterWrapper.class);
+    private static final String GENERATOR_SUFFIX = "_generator";
+    private static final String LOAD_SUFFIX = "_load";
 
     private CoreNetworkImporterWrapper() {
         // do nothing, sonar
@@ -29,18 +33,11 @@ public final class CoreNetworkImporterWrapper {
         return network;
     }
 
+    /**
+     * All fixes are applied in a single pass over voltage levels and their buses, tie lines being the only
+     * equipments visited separately.
+     */
     private static void processNetworkForCoreCC(Network network) {
-        /*
-         UCTE-DEF file does not provide configuration for default nominal voltage setup.
-
-         This post processor modifies default nominal voltages in order to adapt it to FMAX
-         calculation based on IMAX.
-
-         By default, UCTE sets nominal voltage to 220 and 380kV for the voltage levels 6 and 7, whereas
-         default values of Core countries are 225 and 400 kV instead.
-         */
-        updateVoltageLevelNominalV(network);
-
         /*
         When importing an UCTE network file, powsybl ignores generators and loads that do not have an initial power flow.
 
@@ -51,7 +48,21 @@ public final class CoreNetworkImporterWrapper {
         This post process fix this problem, by creating for all missing generators a generator (P, Q = 0),
         and all missing loads a load (P, Q = 0).
         */
-        createMissingGeneratorsAndLoads(network);
+        Set<String> busesWithGenerator = getBusIdsOfExistingInjections(network.getGenerators(), GENERATOR_SUFFIX);
+        Set<String> busesWithLoad = getBusIdsOfExistingInjections(network.getLoads(), LOAD_SUFFIX);
+        for (VoltageLevel voltageLevel : network.getVoltageLevels()) {
+            // Nominal voltage is updated first, as it is the target voltage of created generators
+            updateVoltageLevelNominalV(voltageLevel);
+            for (Bus bus : voltageLevel.getBusBreakerView().getBuses()) {
+                String busId = bus.getId();
+                if (!busesWithGenerator.contains(busId)) {
+                    createMissingGenerator(voltageLevel, busId);
+                }
+                if (!busesWithLoad.contains(busId)) {
+                    createMissingLoad(voltageLevel, busId);
+                }
+            }
+        }
 
         /*
         Temporary patch to make OLF work
@@ -59,62 +70,73 @@ public final class CoreNetworkImporterWrapper {
         alignDisconnectionOfTieLines(network);
     }
 
-    private static void updateVoltageLevelNominalV(Network network) {
-        network.getVoltageLevelStream().forEach(voltageLevel -> {
-            if (safeDoubleEquals(voltageLevel.getNominalV(), 380)) {
-                voltageLevel.setNominalV(400);
-            } else if (safeDoubleEquals(voltageLevel.getNominalV(), 220)) {
-                voltageLevel.setNominalV(225);
-            } else {
-                // Should not be changed cause is not equal to the default nominal voltage of voltage levels 6 or 7
+    /**
+     * Missing injections are identified by their ID built from bus ID, so bus IDs are derived once from existing
+     * injections rather than building and looking up an injection ID for each bus.
+     */
+    private static Set<String> getBusIdsOfExistingInjections(Iterable<? extends Identifiable<?>> injections, String suffix) {
+        Set<String> busIds = new HashSet<>();
+        for (Identifiable<?> injection : injections) {
+            String injectionId = injection.getId();
+            if (injectionId.endsWith(suffix)) {
+                busIds.add(injectionId.substring(0, injectionId.length() - suffix.length()));
             }
-        });
+        }
+        return busIds;
     }
 
-    private static void createMissingGeneratorsAndLoads(Network network) {
-        network.getVoltageLevelStream().forEach(voltageLevel -> {
-            voltageLevel.getBusBreakerView().getBuses().forEach(bus -> createMissingGenerator(network, voltageLevel, bus.getId()));
-            voltageLevel.getBusBreakerView().getBuses().forEach(bus -> createMissingLoad(network, voltageLevel, bus.getId()));
-        });
+    /*
+     UCTE-DEF file does not provide configuration for default nominal voltage setup.
+
+     This post processor modifies default nominal voltages in order to adapt it to FMAX
+     calculation based on IMAX.
+
+     By default, UCTE sets nominal voltage to 220 and 380kV for the voltage levels 6 and 7, whereas
+     default values of Core countries are 225 and 400 kV instead.
+     */
+    private static void updateVoltageLevelNominalV(VoltageLevel voltageLevel) {
+        if (safeDoubleEquals(voltageLevel.getNominalV(), 380)) {
+            voltageLevel.setNominalV(400);
+        } else if (safeDoubleEquals(voltageLevel.getNominalV(), 220)) {
+            voltageLevel.setNominalV(225);
+        } else {
+            // Should not be changed cause is not equal to the default nominal voltage of voltage levels 6 or 7
+        }
     }
 
-    private static void createMissingGenerator(Network network, VoltageLevel voltageLevel, String busId) {
-        String generatorId = busId + "_generator";
-        if (network.getGenerator(generatorId) == null) {
-            try {
-                voltageLevel.newGenerator()
-                        .setBus(busId)
-                        .setEnsureIdUnicity(true)
-                        .setId(generatorId)
-                        .setMaxP(9999)
-                        .setMinP(0)
-                        .setTargetP(0)
-                        .setTargetQ(0)
-                        .setTargetV(voltageLevel.getNominalV())
-                        .setVoltageRegulatorOn(false)
-                        .add()
-                        .newMinMaxReactiveLimits().setMaxQ(99999).setMinQ(99999).add();
-            } catch (Exception e) {
-                LOGGER.warn("Can't create generator {}", generatorId);
-            }
+    private static void createMissingGenerator(VoltageLevel voltageLevel, String busId) {
+        String generatorId = busId + GENERATOR_SUFFIX;
+        try {
+            voltageLevel.newGenerator()
+                    .setBus(busId)
+                    .setEnsureIdUnicity(true)
+                    .setId(generatorId)
+                    .setMaxP(9999)
+                    .setMinP(0)
+                    .setTargetP(0)
+                    .setTargetQ(0)
+                    .setTargetV(voltageLevel.getNominalV())
+                    .setVoltageRegulatorOn(false)
+                    .add()
+                    .newMinMaxReactiveLimits().setMaxQ(99999).setMinQ(99999).add();
+        } catch (Exception e) {
+            LOGGER.warn("Can't create generator {}", generatorId);
         }
     }
 
-    private static void createMissingLoad(Network network, VoltageLevel voltageLevel, String busId) {
-        String loadId = busId + "_load";
-        if (network.getLoad(loadId) == null) {
-            try {
-                voltageLevel.newLoad()
-                        .setBus(busId)
-                        .setEnsureIdUnicity(true)
-                        .setId(loadId)
-                        .setP0(0)
-                        .setQ0(0)
-                        .setLoadType(LoadType.FICTITIOUS)
-                        .add();
-            } catch (Exception e) {
-                LOGGER.warn("Can't create load {}", loadId);
-            }
+    private static void createMissingLoad(VoltageLevel voltageLevel, String busId) {
+        String loadId = busId + LOAD_SUFFIX;
+        try {
+            voltageLevel.newLoad()
+                    .setBus(busId)
+                    .setEnsureIdUnicity(true)
+                    .setId(loadId)
+                    .setP0(0)
+                    .setQ0(0)
+                    .setLoadType(LoadType.FICTITIOUS)
+                    .add();
+        } catch (Exception e) {
+            LOGGER.warn("Can't create load {}", loadId);
         }
     }
 
@@ -123,13 +145,11 @@ public final class CoreNetworkImporterWrapper {
     }
 
     private static void alignDisconnectionOfTieLines(Network network) {
-        network.getBranchStream()
-                .filter(TieLine.class::isInstance)
-                .forEach(tl -> {
-                    if (!tl.getTerminal1().isConnected() || !tl.getTerminal2().isConnected()) {
-                        tl.getTerminal1().disconnect();
-                        tl.getTerminal2().disconnect();
-                    }
-                });
+        for (TieLine tieLine : network.getTieLines()) {
+            if (!tieLine.getTerminal1().isConnected() || !tieLine.getTerminal2().isConnected()) {
+                tieLine.getTerminal1().disconnect();
+                tieLine.getTerminal2().disconnect();
+            }
+        }
     }
 }
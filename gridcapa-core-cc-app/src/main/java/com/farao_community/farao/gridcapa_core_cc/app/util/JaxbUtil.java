@@ -7,17 +7,29 @@
 package com.farao_community.farao.gridcapa_core_cc.app.util;
 
 import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInternalException;
+import org.glassfish.jaxb.runtime.marshaller.NamespacePrefixMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import jakarta.xml.bind.*;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.stream.StreamSource;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
+ * JAXB contexts are expensive to create and thread-safe: one context is created per class and kept for the
+ * lifetime of the application. Unmarshallers and marshallers are not thread-safe, so they are borrowed
+ * from a small per-class pool for the duration of a single call.
+ *
  * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
  */
 public final class JaxbUtil {
@@ -27,13 +39,29 @@ public final class JaxbUtil {
     }
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JaxbUtil.class);
+    private static final int MAX_POOLED_INSTANCES = 16;
+    private static final String NAMESPACE_PREFIX_MAPPER = "org.glassfish.jaxb.namespacePrefixMapper";
+    private static final Map<Class<?>, JaxbPool> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Creates JAXB contexts of given classes, so that first tasks do not pay for it.
+     */
+    public static void warmUp(Class<?>... classes) {
+        for (Class<?> clazz : classes) {
+            try {
+                JaxbPool pool = getPool(clazz);
+                pool.releaseUnmarshaller(pool.borrowUnmarshaller());
+            } catch (JAXBException e) {
+                String errorMessage = String.format("Error occurred when creating JAXB context of type %s", clazz.getName());
+                LOGGER.error(errorMessage);
+                throw new CoreCCInternalException(errorMessage, e);
+            }
+        }
+    }
 
     public static <T> T unmarshalFile(Class<T> clazz, Path path) {
         try (InputStream fileContent = Files.newInputStream(path)) {
-            JAXBContext jaxbContext = JAXBContext.newInstance(clazz);
-            Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
-            JAXBElement<T> requestMessageTypeElement = jaxbUnmarshaller.unmarshal(new StreamSource(fileContent), clazz);
-            return requestMessageTypeElement.getValue();
+            return unmarshal(clazz, fileContent);
         } catch (JAXBException | IOException e) {
 
             String errorMessage = String.format("Error occurred when converting xml file %s to object of type %s", path, clazz.getName());
@@ -44,14 +72,141 @@ public final class JaxbUtil {
 
     public static <T> T unmarshalContent(Class<T> clazz, InputStream inputStream) {
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(clazz);
-            Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
-            JAXBElement<T> requestMessageTypeElement = jaxbUnmarshaller.unmarshal(new StreamSource(inputStream), clazz);
-            return requestMessageTypeElement.getValue();
+            return unmarshal(clazz, inputStream);
         } catch (JAXBException e) {
             String errorMessage = String.format("Error occurred when converting InputStream to object of type %s", clazz.getName());
             LOGGER.error(errorMessage);
             throw new CoreCCInternalException(errorMessage, e);
         }
     }
+
+    /**
+     * Unmarshals the element the reader is positioned on. Once done, the reader is positioned right after its end tag.
+     */
+    public static <T> T unmarshalElement(Class<T> clazz, XMLStreamReader reader) {
+        try {
+            JaxbPool pool = getPool(clazz);
+            Unmarshaller unmarshaller = pool.borrowUnmarshaller();
+            try {
+                return unmarshaller.unmarshal(reader, clazz).getValue();
+            } finally {
+                pool.releaseUnmarshaller(unmarshaller);
+            }
+        } catch (JAXBException e) {
+            String errorMessage = String.format("Error occurred when converting xml element to object of type %s", clazz.getName());
+            LOGGER.error(errorMessage);
+            throw new CoreCCInternalException(errorMessage, e);
+        }
+    }
+
+    /**
+     * Writes given element as formatted XML directly to the output stream, in UTF-8.
+     */
+    public static <T> void marshalContent(Class<T> clazz, JAXBElement<T> element, OutputStream outputStream) {
+        try {
+            JaxbPool pool = getPool(clazz);
+            Marshaller marshaller = pool.borrowMarshaller();
+            try {
+                marshaller.marshal(element, outputStream);
+            } finally {
+                pool.releaseMarshaller(marshaller);
+            }
+        } catch (JAXBException e) {
+            String errorMessage = String.format("Error occurred when converting object of type %s to xml", clazz.getName());
+            LOGGER.error(errorMessage);
+            throw new CoreCCInternalException(errorMessage, e);
+        }
+    }
+
+    /**
+     * Writes given root element as formatted XML directly to the output stream, in UTF-8, with the XML schema
+     * instance namespace declared on the root element although nothing uses it, as some receivers expect it.
+     * A namespace prefix mapper cannot be removed from a marshaller, so the marshaller is not pooled.
+     */
+    public static void marshalContentDeclaringXsi(Class<?> clazz, Object rootElement, OutputStream outputStream) {
+        try {
+            Marshaller marshaller = getPool(clazz).createMarshaller();
+            marshaller.setProperty(NAMESPACE_PREFIX_MAPPER, XsiDeclaringPrefixMapper.INSTANCE);
+            marshaller.marshal(rootElement, outputStream);
+        } catch (JAXBException e) {
+            String errorMessage = String.format("Error occurred when converting object of type %s to xml", clazz.getName());
+            LOGGER.error(errorMessage);
+            throw new CoreCCInternalException(errorMessage, e);
+        }
+    }
+
+    private static <T> T unmarshal(Class<T> clazz, InputStream inputStream) throws JAXBException {
+        JaxbPool pool = getPool(clazz);
+        Unmarshaller unmarshaller = pool.borrowUnmarshaller();
+        try {
+            JAXBElement<T> element = unmarshaller.unmarshal(new StreamSource(inputStream), clazz);
+            return element.getValue();
+        } finally {
+            pool.releaseUnmarshaller(unmarshaller);
+        }
+    }
+
+    private static JaxbPool getPool(Class<?> clazz) throws JAXBException {
+        JaxbPool pool = POOLS.get(clazz);
+        if (pool == null) {
+            JaxbPool newPool = new JaxbPool(JAXBContext.newInstance(clazz));
+            pool = POOLS.putIfAbsent(clazz, newPool);
+            if (pool == null) {
+                pool = newPool;
+            }
+        }
+        return pool;
+    }
+
+    private static final class JaxbPool {
+        private final JAXBContext context;
+        private final Queue<Unmarshaller> unmarshallers = new ConcurrentLinkedQueue<>();
+        private final Queue<Marshaller> marshallers = new ConcurrentLinkedQueue<>();
+
+        private JaxbPool(JAXBContext context) {
+            this.context = context;
+        }
+
+        private Unmarshaller borrowUnmarshaller() throws JAXBException {
+            Unmarshaller unmarshaller = unmarshallers.poll();
+            return unmarshaller != null ? unmarshaller : context.createUnmarshaller();
+        }
+
+        private void releaseUnmarshaller(Unmarshaller unmarshaller) {
+            if (unmarshallers.size() < MAX_POOLED_INSTANCES) {
+                unmarshallers.offer(unmarshaller);
+            }
+        }
+
+        private Marshaller borrowMarshaller() throws JAXBException {
+            Marshaller marshaller = marshallers.poll();
+            return marshaller != null ? marshaller : createMarshaller();
+        }
+
+        private Marshaller createMarshaller() throws JAXBException {
+            Marshaller marshaller = context.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            return marshaller;
+        }
+
+        private void releaseMarshaller(Marshaller marshaller) {
+            if (marshallers.size() < MAX_POOLED_INSTANCES) {
+                marshallers.offer(marshaller);
+            }
+        }
+    }
+
+    private static final class XsiDeclaringPrefixMapper extends NamespacePrefixMapper {
+        private static final XsiDeclaringPrefixMapper INSTANCE = new XsiDeclaringPrefixMapper();
+
+        @Override
+        public String getPreferredPrefix(String namespaceUri, String suggestion, boolean requirePrefix) {
+            return XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI.equals(namespaceUri) ? "xsi" : suggestion;
+        }
+
+        @Override
+        public String[] getPreDeclaredNamespaceUris2() {
+            return new String[] {"xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI};
+        }
+    }
 }
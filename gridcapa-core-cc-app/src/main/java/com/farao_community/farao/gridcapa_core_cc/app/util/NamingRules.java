@@ -30,7 +30,6 @@ public final class NamingRules {
     public static final String S_INPUTS_CRACS_S = "%s/inputs/cracs/%s";
 
     public static final String JSON_EXTENSION = ".json";
-    public static final String IIDM_EXTENSION = ".xiidm";
     public static final String JSON_RAO_PARAMETERS_FILE_NAME = "raoParameters.json";
     public static final String CGM_XML_HEADER_NAME = "^.*\\.(xml)$";
     public static final String CGM_FILE_NAME = "^[0-9]{8}_([0-9]{2}|B2)30_2D[1-7].*\\.uct";
@@ -92,6 +91,15 @@ public final class NamingRules {
         return "RAO_OUTPUTS_DIR" + "/" + IntervalUtil.handle25TimestampCase(hourlyFolderName, offsetDateTime.toInstant().toString());
     }
 
+    // -- URLs
+    /**
+     * Pre-signed URLs of a same file differ from one task to another: query parameters are removed to identify the file.
+     */
+    public static String removeUrlQuery(String url) {
+        int queryIndex = url.indexOf('?');
+        return queryIndex < 0 ? url : url.substring(0, queryIndex);
+    }
+
     private static String formatVersion(String filename, int v) {
         return filename.replace("<version>", String.format("%02d", v));
     }
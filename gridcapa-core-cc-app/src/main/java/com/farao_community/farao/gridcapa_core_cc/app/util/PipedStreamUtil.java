@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.util;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Uploads content while it is being written, without buffering it entirely in memory or on disk: content is written
+ * to a pipe by a virtual thread while the uploader reads the other end.
+ */
+public final class PipedStreamUtil {
+
+    private static final int PIPE_SIZE_IN_BYTES = 1024 * 1024;
+
+    private PipedStreamUtil() {
+        throw new AssertionError("Utility class should not be constructed");
+    }
+
+    /**
+     * Uploader must read given stream until its end. If writing fails, the stream ends with an exception rather
+     * than a premature end, so that no truncated content is uploaded, and the writing failure is thrown.
+     */
+    public static void upload(final ContentWriter writer, final Consumer<InputStream> uploader) throws IOException {
+        final PipedInputStream pipedInputStream = new PipedInputStream(PIPE_SIZE_IN_BYTES);
+        final PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream);
+        final AtomicReference<Exception> writingFailure = new AtomicReference<>();
+        final Thread writerThread = Thread.ofVirtual().name("piped-stream-writer").start(() -> {
+            try {
+                writer.write(pipedOutputStream);
+            } catch (final Exception e) {
+                writingFailure.set(e);
+            } finally {
+                closeQuietly(pipedOutputStream);
+            }
+        });
+        try (InputStream inputStream = new WriterAwareInputStream(pipedInputStream, writingFailure)) {
+            uploader.accept(inputStream);
+            // Writer has completed once whole content is read, it is only waited for when content is left unread
+            join(writerThread);
+        } finally {
+            // Closing read side unblocks a writer waiting for space in the pipe after a failed upload
+            closeQuietly(pipedInputStream);
+            join(writerThread);
+        }
+        if (writingFailure.get() != null) {
+            throw new IOException("Content could not be written", writingFailure.get());
+        }
+    }
+
+    private static void join(final Thread thread) throws InterruptedIOException {
+        try {
+            thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for content to be written");
+        }
+    }
+
+    private static void closeQuietly(final Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (final IOException e) {
+            // Nothing more can be done with the pipe
+        }
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    private static final class WriterAwareInputStream extends FilterInputStream {
+        private final AtomicReference<Exception> writingFailure;
+
+        private WriterAwareInputStream(final InputStream inputStream, final AtomicReference<Exception> writingFailure) {
+            super(inputStream);
+            this.writingFailure = writingFailure;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return checkWriter(super.read());
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            return checkWriter(super.read(b, off, len));
+        }
+
+        private int checkWriter(final int read) throws IOException {
+            if (read == -1 && writingFailure.get() != null) {
+                throw new IOException("Content could not be written", writingFailure.get());
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.util;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.Header;
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.Payload;
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
+import com.unicorn.request.request_payload.RequestItem;
+import com.unicorn.request.request_payload.RequestItems;
+import org.threeten.extra.Interval;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * Streaming reader of the RAO request (F302), for tasks that only need one hour of the business day.
+ * Header is read entirely, as it holds the correlation ID and the RAO parameters, then only the request item
+ * matching the task timestamp is kept. Reading stops as soon as this item has been found, so that memory
+ * does not grow with the number of request items.
+ */
+public final class RaoRequestReader {
+
+    private static final String HEADER = "Header";
+    private static final String REQUEST_ITEMS = "RequestItems";
+    private static final String REQUEST_ITEM = "RequestItem";
+    private static final String TIME_INTERVAL = "timeInterval";
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private RaoRequestReader() {
+        throw new AssertionError("Utility class should not be constructed");
+    }
+
+    /**
+     * Returned message holds the header, the request items time interval
+     * and, if it exists, the only request item whose time interval contains given instant.
+     */
+    public static RequestMessage readRequestMessage(InputStream inputStream, Instant instant) {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            return readRequestMessage(reader, instant);
+        } catch (XMLStreamException e) {
+            throw new CoreCCInvalidDataException("Error occurred while reading RAO request", e);
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    private static RequestMessage readRequestMessage(XMLStreamReader reader, Instant instant) throws XMLStreamException {
+        RequestMessage requestMessage = new RequestMessage();
+        int event = reader.getEventType();
+        while (true) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case HEADER -> {
+                        requestMessage.setHeader(JaxbUtil.unmarshalElement(Header.class, reader));
+                        // Unmarshaller leaves the reader on the event following the header
+                        event = reader.getEventType();
+                        continue;
+                    }
+                    case REQUEST_ITEMS -> {
+                        RequestItems requestItems = new RequestItems();
+                        requestItems.setTimeInterval(reader.getAttributeValue(null, TIME_INTERVAL));
+                        Payload payload = new Payload();
+                        payload.setRequestItems(requestItems);
+                        requestMessage.setPayload(payload);
+                    }
+                    case REQUEST_ITEM -> {
+                        if (requestMessage.getPayload() != null && Interval.parse(reader.getAttributeValue(null, TIME_INTERVAL)).contains(instant)) {
+                            requestMessage.getPayload().getRequestItems().getRequestItem().add(JaxbUtil.unmarshalElement(RequestItem.class, reader));
+                            return requestMessage;
+                        }
+                    }
+                    default -> {
+                        // Other elements are either part of a skipped request item or of no interest here
+                    }
+                }
+            }
+            if (!reader.hasNext()) {
+                return requestMessage;
+            }
+            event = reader.next();
+        }
+    }
+
+    private static void closeQuietly(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // Nothing to do, reader has already been read
+            }
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+/**
+ * In-memory buffer for small artifacts written before being uploaded. Unlike {@link #toByteArray()},
+ * {@link #toInputStream()} reads the written bytes from the backing array without copying them.
+ * <p>
+ * The buffer must not be written to while the returned stream is being read.
+ */
+public class UploadBuffer extends ByteArrayOutputStream {
+
+    public synchronized InputStream toInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+}
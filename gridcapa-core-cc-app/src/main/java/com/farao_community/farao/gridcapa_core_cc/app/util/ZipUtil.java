@@ -11,10 +11,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 /**
@@ -65,7 +69,39 @@ public final class ZipUtil {
         return unzippedPaths;
     }
 
-    private static void extractFile(ZipInputStream zipIn, String filePath, long compressedSize) throws IOException {
+    /**
+     * Only extracts file entries whose name matches given filter, without reading the other entries.
+     */
+    public static List<Path> unzipEntries(ZipFile zipFile, Path destDirectory, Predicate<String> entryNameFilter) {
+        List<Path> unzippedPaths = new ArrayList<>();
+        try {
+            if (zipFile.size() > THRESHOLD_ENTRIES) {
+                throw new IOException("Entry threshold reached while unzipping.");
+            }
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.isDirectory() || !entryNameFilter.test(entry.getName())) {
+                    continue;
+                }
+                Path filePath = Path.of(destDirectory + File.separator + entry.getName()).normalize();
+                if (!filePath.startsWith(destDirectory)) {
+                    throw new IOException("Entry is outside of the target directory");
+                }
+                Files.createDirectories(filePath.getParent());
+                try (InputStream entryIn = zipFile.getInputStream(entry)) {
+                    extractFile(entryIn, filePath.toString(), entry.getCompressedSize());
+                }
+                unzippedPaths.add(filePath);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error while extracting zip file entries");
+            throw new CoreCCInternalException("Error while extracting zip file entries", e);
+        }
+        return unzippedPaths;
+    }
+
+    private static void extractFile(InputStream zipIn, String filePath, long compressedSize) throws IOException {
         float totalSizeEntry = 0;
         try (BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(filePath))) { //NOSONAR
             byte[] bytesIn = new byte[BUFFER_SIZE];
@@ -8,24 +8,39 @@
 package com.farao_community.farao.gridcapa_core_cc.app;
 
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCRaoException;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCFileResource;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoRequest;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoResult;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.AmqpMessagesConfiguration;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.ExecutionConfiguration;
 import com.farao_community.farao.gridcapa_core_cc.app.postprocessing.FileExporterHelper;
+import com.farao_community.farao.gridcapa_core_cc.app.postprocessing.OutputsExporter;
+import com.farao_community.farao.gridcapa_core_cc.app.preprocessing.CoreCCPreProcessService;
+import com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics;
+import com.farao_community.farao.gridcapa_core_cc.app.services.NetworkCache;
 import com.farao_community.farao.gridcapa_core_cc.app.services.RaoRunnerService;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import com.github.jasminb.jsonapi.exceptions.ResourceParseException;
 import com.github.jasminb.jsonapi.models.errors.Error;
 import com.github.jasminb.jsonapi.models.errors.Errors;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.slf4j.MDC;
 import org.springframework.amqp.core.AmqpReplyTimeoutException;
 import org.springframework.amqp.core.Message;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
@@ -34,8 +49,16 @@ import java.net.URL;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -53,6 +76,12 @@ class CoreCCHandlerTest {
     @MockitoBean
     private RaoRunnerService raoRunnerService;
 
+    @Autowired
+    private AmqpMessagesConfiguration amqpMessagesConfiguration;
+
+    private static final String ASYNC_REQUEST_ID = "Async test request";
+    private static final String NETWORK_FILE_URL = "network.xiidm";
+
     @Test
     void handleCoreCCRequestTest() throws IOException {
         Mockito.when(minioAdapter.generatePreSignedUrl(Mockito.any())).thenReturn("http://url");
@@ -90,6 +119,104 @@ class CoreCCHandlerTest {
         Mockito.verify(minioAdapter, Mockito.times(4)).uploadArtifact(Mockito.any(), Mockito.any());
     }
 
+    @Test
+    void handleCoreCCRequestAsyncExportsOutputsOnceRaoIsOver() throws Exception {
+        final AsyncHandlerMocks mocks = new AsyncHandlerMocks();
+        final CompletableFuture<RaoSuccessResponse> raoResponse = new CompletableFuture<>();
+        Mockito.when(raoRunnerService.runAsync(Mockito.any())).thenReturn(raoResponse);
+        final AtomicReference<String> exportTaskId = new AtomicReference<>();
+        final AtomicReference<Thread> exportThread = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            exportTaskId.set(MDC.get("gridcapa-task-id"));
+            exportThread.set(Thread.currentThread());
+            return null;
+        }).when(mocks.outputsExporter).exportOutputs(Mockito.any());
+        final InternalCoreCCRequest internalCoreCCRequest = createAsyncRequest();
+
+        final String schedulerTaskId;
+        try {
+            final CompletableFuture<Void> requestHandling = mocks.coreCCHandler.handleCoreCCRequestAsync(internalCoreCCRequest);
+            assertFalse(requestHandling.isDone());
+            Mockito.verify(mocks.networkCache, Mockito.never()).release(Mockito.any());
+
+            raoResponse.complete(createRaoResponse());
+            requestHandling.get(10, TimeUnit.SECONDS);
+            schedulerTaskId = Mono.fromCallable(() -> Optional.ofNullable(MDC.get("gridcapa-task-id")))
+                    .subscribeOn(mocks.scheduler)
+                    .block()
+                    .orElse(null);
+        } finally {
+            MDC.remove("gridcapa-task-id");
+            mocks.scheduler.dispose();
+        }
+
+        assertEquals(ASYNC_REQUEST_ID, exportTaskId.get());
+        assertNotNull(exportThread.get());
+        assertNotEquals(Thread.currentThread(), exportThread.get());
+        // Task id is not left in MDC of the post-processing thread, which is reused by next tasks
+        assertNull(schedulerTaskId);
+        assertEquals(HourlyRaoResult.Status.SUCCESS, internalCoreCCRequest.getHourlyRaoResult().getStatus());
+        Mockito.verify(mocks.fileExporterHelper).exportMetadataToMinio(internalCoreCCRequest);
+        Mockito.verify(mocks.networkCache).release(NETWORK_FILE_URL);
+        assertEquals(1, findTaskTimer(mocks.meterRegistry, "success", "none").count());
+    }
+
+    @Test
+    void handleCoreCCRequestAsyncSavesRaoFailure() throws Exception {
+        final AsyncHandlerMocks mocks = new AsyncHandlerMocks();
+        Mockito.when(raoRunnerService.runAsync(Mockito.any())).thenReturn(CompletableFuture.failedFuture(new CoreCCRaoException("RAO failed")));
+        final InternalCoreCCRequest internalCoreCCRequest = createAsyncRequest();
+
+        try {
+            mocks.coreCCHandler.handleCoreCCRequestAsync(internalCoreCCRequest).get(10, TimeUnit.SECONDS);
+        } finally {
+            MDC.remove("gridcapa-task-id");
+            mocks.scheduler.dispose();
+        }
+
+        final HourlyRaoResult hourlyRaoResult = internalCoreCCRequest.getHourlyRaoResult();
+        assertEquals(HourlyRaoResult.Status.FAILURE, hourlyRaoResult.getStatus());
+        assertEquals(HourlyRaoResult.ErrorCode.RAO_FAILURE.getCode(), hourlyRaoResult.getErrorCodeString());
+        assertEquals("RAO failed", hourlyRaoResult.getErrorMessage());
+        Mockito.verify(mocks.outputsExporter, Mockito.never()).exportOutputs(Mockito.any());
+        Mockito.verify(mocks.fileExporterHelper, Mockito.never()).exportMetadataToMinio(Mockito.any());
+        Mockito.verify(mocks.networkCache).release(NETWORK_FILE_URL);
+        assertEquals(1, findTaskTimer(mocks.meterRegistry, "failure", HourlyRaoResult.ErrorCode.RAO_FAILURE.getCode()).count());
+    }
+
+    @Test
+    void handleCoreCCRequestAsyncWaitsForRunningRaoToEnd() throws Exception {
+        final AsyncHandlerMocks mocks = new AsyncHandlerMocks();
+        final CompletableFuture<RaoSuccessResponse> firstRaoResponse = new CompletableFuture<>();
+        Mockito.when(raoRunnerService.runAsync(Mockito.any()))
+                .thenReturn(firstRaoResponse)
+                .thenReturn(CompletableFuture.completedFuture(createRaoResponse()));
+
+        try {
+            final CompletableFuture<Void> firstRequestHandling = mocks.coreCCHandler.handleCoreCCRequestAsync(createAsyncRequest());
+            final CompletableFuture<CompletableFuture<Void>> secondRequestHandling = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return mocks.coreCCHandler.handleCoreCCRequestAsync(createAsyncRequest());
+                } finally {
+                    MDC.remove("gridcapa-task-id");
+                }
+            });
+
+            // Only one RAO is allowed in flight: second RAO request is sent once the first RAO is over
+            Mockito.verify(raoRunnerService, Mockito.after(200).times(1)).runAsync(Mockito.any());
+            assertFalse(secondRequestHandling.isDone());
+
+            firstRaoResponse.complete(createRaoResponse());
+            firstRequestHandling.get(10, TimeUnit.SECONDS);
+            secondRequestHandling.get(10, TimeUnit.SECONDS).get(10, TimeUnit.SECONDS);
+        } finally {
+            MDC.remove("gridcapa-task-id");
+            mocks.scheduler.dispose();
+        }
+
+        Mockito.verify(raoRunnerService, Mockito.times(2)).runAsync(Mockito.any());
+    }
+
     @Test
     void handleRaoRunnerException() {
         final HourlyRaoResult hourlyRaoResult = new HourlyRaoResult("2021-07-22T22:30Z");
@@ -99,6 +226,55 @@ class CoreCCHandlerTest {
         otherExceptionTypeCauseCase(hourlyRaoResult);
     }
 
+    /**
+     * Handler with mocked preprocessing and exports, post-processing on its own scheduler thread.
+     */
+    private final class AsyncHandlerMocks {
+        private final CoreCCPreProcessService preProcessService = Mockito.mock(CoreCCPreProcessService.class);
+        private final FileExporterHelper fileExporterHelper = Mockito.mock(FileExporterHelper.class);
+        private final OutputsExporter outputsExporter = Mockito.mock(OutputsExporter.class);
+        private final NetworkCache networkCache = Mockito.mock(NetworkCache.class);
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final Scheduler scheduler = Schedulers.newSingle("core-cc-handler-test");
+        private final CoreCCHandler coreCCHandler = new CoreCCHandler(preProcessService, amqpMessagesConfiguration, raoRunnerService,
+                fileExporterHelper, outputsExporter, scheduler, networkCache, new CoreCCMetrics(meterRegistry),
+                new ExecutionConfiguration(1, false, true, 1));
+
+        private AsyncHandlerMocks() {
+            final HourlyRaoRequest hourlyRaoRequest = Mockito.mock(HourlyRaoRequest.class);
+            Mockito.when(hourlyRaoRequest.getRaoRequestInstant()).thenReturn("2021-07-22T22:30:00Z");
+            Mockito.when(hourlyRaoRequest.getNetworkFileUrl()).thenReturn(NETWORK_FILE_URL);
+            Mockito.when(hourlyRaoRequest.toRaoRequest(Mockito.any(), Mockito.any())).thenReturn(Mockito.mock(RaoRequest.class));
+            Mockito.doAnswer(invocation -> {
+                invocation.<InternalCoreCCRequest>getArgument(0).setHourlyRaoRequest(hourlyRaoRequest);
+                return null;
+            }).when(preProcessService).initializeTaskFromAutomatedLaunch(Mockito.any());
+        }
+    }
+
+    private static InternalCoreCCRequest createAsyncRequest() {
+        return new InternalCoreCCRequest(new CoreCCRequest(ASYNC_REQUEST_ID, "current RunID", OffsetDateTime.parse("2021-07-22T22:30Z"),
+                null, null, null, null, null, null, null, true, List.of()));
+    }
+
+    private static RaoSuccessResponse createRaoResponse() {
+        return new RaoSuccessResponse.Builder()
+                .withId("id")
+                .withInstant("instant")
+                .withNetworkWithPraFileUrl("praUrl")
+                .withCracFileUrl("cracUrl")
+                .withRaoResultFileUrl("raoUrl")
+                .withComputationStartInstant(Instant.now())
+                .withComputationEndInstant(Instant.now())
+                .build();
+    }
+
+    private static Timer findTaskTimer(final SimpleMeterRegistry meterRegistry, final String outcome, final String errorCode) {
+        final Timer timer = meterRegistry.find("gridcapa.core.cc.task").tag("outcome", outcome).tag("error_code", errorCode).timer();
+        assertNotNull(timer);
+        return timer;
+    }
+
     private CoreCCFileResource createFileResource(final String filename, final URL resource) {
         try {
             return new CoreCCFileResource(filename, resource.toURI().toURL().toString());
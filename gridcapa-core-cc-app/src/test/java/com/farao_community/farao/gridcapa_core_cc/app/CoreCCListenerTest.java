@@ -9,12 +9,14 @@ package com.farao_community.farao.gridcapa_core_cc.app;
 
 import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.ExecutionConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
+import org.slf4j.MDC;
 import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -23,11 +25,17 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
  * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
@@ -90,4 +98,40 @@ class CoreCCListenerTest {
         Mockito.verify(businessLogger, Mockito.times(1)).error("{}: {}", "Core CC exception occurred", "test");
     }
 
+    @Test
+    void checkThatTaskIdIsRemovedFromMdcOnceHandled() throws URISyntaxException, IOException {
+        final byte[] correctMessage = Files.readAllBytes(Paths.get(getClass().getResource("/validRequest.json").toURI()));
+        coreCCListener.handleMessage(correctMessage);
+        Mockito.verify(coreCCHandler, Mockito.times(1)).handleCoreCCRequest(Mockito.any(InternalCoreCCRequest.class));
+        assertNull(MDC.get("gridcapa-task-id"));
+    }
+
+    @Test
+    void checkThatAsynchronousRequestCompletesOnceRaoIsOver() throws URISyntaxException, IOException {
+        final byte[] correctMessage = Files.readAllBytes(Paths.get(getClass().getResource("/validRequest.json").toURI()));
+        final CompletableFuture<Void> raoRun = new CompletableFuture<>();
+        Mockito.when(coreCCHandler.handleCoreCCRequestAsync(Mockito.any(InternalCoreCCRequest.class))).thenReturn(raoRun);
+
+        final CompletableFuture<Void> messageHandling = coreCCListener.handleMessageAsync(correctMessage);
+        assertFalse(messageHandling.isDone());
+        // Thread that sent the RAO request goes on with next requests: task id is not left in its MDC
+        assertNull(MDC.get("gridcapa-task-id"));
+
+        raoRun.completeExceptionally(new CoreCCInvalidDataException("test"));
+        messageHandling.join();
+        Mockito.verify(businessLogger, Mockito.times(1)).error("{}: {}", "Core CC exception occurred", "test");
+    }
+
+    @Test
+    void checkThatNextRequestIsHandledWhileAsynchronousRaoIsRunning() throws URISyntaxException, IOException {
+        final byte[] correctMessage = Files.readAllBytes(Paths.get(getClass().getResource("/validRequest.json").toURI()));
+        Mockito.when(coreCCHandler.handleCoreCCRequestAsync(Mockito.any(InternalCoreCCRequest.class))).thenReturn(new CompletableFuture<>());
+        final CoreCCListener asynchronousListener = new CoreCCListener(businessLogger, coreCCHandler, streamBridge,
+                new ExecutionConfiguration(1, false, true, 1), Schedulers.immediate());
+
+        asynchronousListener.request().accept(Flux.just(correctMessage, correctMessage));
+
+        // RAO of first request is still running, which does not prevent second request from being handled
+        Mockito.verify(coreCCHandler, Mockito.times(2)).handleCoreCCRequestAsync(Mockito.any(InternalCoreCCRequest.class));
+    }
 }
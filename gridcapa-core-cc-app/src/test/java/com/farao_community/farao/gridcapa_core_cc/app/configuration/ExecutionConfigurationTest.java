@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionConfigurationTest {
+
+    @Test
+    void checkDefaultConfigurationUsesPlatformThreads() {
+        final ExecutionConfiguration executionConfiguration = new ExecutionConfiguration(0, false, false, 0);
+        assertEquals(1, executionConfiguration.getMaxConcurrentRequests());
+        assertEquals(1, executionConfiguration.getMaxRaosInFlight());
+
+        final Scheduler scheduler = executionConfiguration.coreCCRequestScheduler();
+        try {
+            final Boolean isVirtual = Mono.fromCallable(() -> Thread.currentThread().isVirtual()).subscribeOn(scheduler).block();
+            assertFalse(isVirtual);
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    void checkPrefetchIsBoundedLikeConcurrentRequests() {
+        final ExecutionConfiguration executionConfiguration = new ExecutionConfiguration(0, false, false, 1);
+        final SimpleMessageListenerContainer container = Mockito.mock(SimpleMessageListenerContainer.class);
+
+        executionConfiguration.requestPrefetchCustomizer().configure(container, "core-cc-request", "core-cc");
+
+        Mockito.verify(container).setPrefetchCount(1);
+    }
+
+    @Test
+    void checkVirtualThreadsConfiguration() {
+        final ExecutionConfiguration executionConfiguration = new ExecutionConfiguration(200, true, false, 1);
+        assertEquals(200, executionConfiguration.getMaxConcurrentRequests());
+
+        final Scheduler scheduler = executionConfiguration.coreCCRequestScheduler();
+        try {
+            final Boolean isVirtual = Mono.fromCallable(() -> Thread.currentThread().isVirtual()).subscribeOn(scheduler).block();
+            assertTrue(isVirtual);
+        } finally {
+            scheduler.dispose();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.app.entities;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_response.Payload;
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_response.ResponseMessage;
+import com.unicorn.response.response_payload.File;
+import com.unicorn.response.response_payload.Files;
+import com.unicorn.response.response_payload.ResponseItem;
+import com.unicorn.response.response_payload.ResponseItems;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CgmsAndXmlHeaderTest {
+
+    private static final Path CGM_0030 = Path.of("/tmp/cgm/20210723_0030_2D5_CGM.uct");
+    private static final Path CGM_0130 = Path.of("/tmp/cgm/20210723_0130_2D5_CGM.uct");
+
+    private final CgmsAndXmlHeader cgmsAndXmlHeader = new CgmsAndXmlHeader(createXmlHeader(), List.of(CGM_0130, CGM_0030));
+
+    @Test
+    void getNetworkPathOfInstantInsideInterval() {
+        assertEquals(CGM_0030, cgmsAndXmlHeader.getNetworkPath(Instant.parse("2021-07-22T22:30:00Z")));
+        assertEquals(CGM_0130, cgmsAndXmlHeader.getNetworkPath(Instant.parse("2021-07-22T23:59:59Z")));
+    }
+
+    @Test
+    void getNetworkPathOfIntervalStart() {
+        assertEquals(CGM_0030, cgmsAndXmlHeader.getNetworkPath(Instant.parse("2021-07-22T22:00:00Z")));
+        assertEquals(CGM_0130, cgmsAndXmlHeader.getNetworkPath(Instant.parse("2021-07-22T23:00:00Z")));
+    }
+
+    @Test
+    void errorWhenInstantIsOutOfIntervals() {
+        final Instant beforeFirstInterval = Instant.parse("2021-07-22T21:30:00Z");
+        final Instant afterLastInterval = Instant.parse("2021-07-23T00:30:00Z");
+        assertThrows(CoreCCInvalidDataException.class, () -> cgmsAndXmlHeader.getNetworkPath(beforeFirstInterval));
+        final CoreCCInvalidDataException exception = assertThrows(CoreCCInvalidDataException.class, () -> cgmsAndXmlHeader.getNetworkPath(afterLastInterval));
+        assertEquals("cannot find instant 2021-07-23T00:30:00Z in cgm xml header time intervals", exception.getMessage());
+    }
+
+    @Test
+    void errorWhenCgmIsMissingInZip() {
+        final CgmsAndXmlHeader headerWithoutCgm = new CgmsAndXmlHeader(createXmlHeader(), List.of(CGM_0030));
+        final Instant instant = Instant.parse("2021-07-22T23:30:00Z");
+        final CoreCCInvalidDataException exception = assertThrows(CoreCCInvalidDataException.class, () -> headerWithoutCgm.getNetworkPath(instant));
+        assertEquals("cannot find cgm for instant 2021-07-22T23:30:00Z in zip folder", exception.getMessage());
+    }
+
+    private static ResponseMessage createXmlHeader() {
+        final ResponseItems responseItems = new ResponseItems();
+        // Response items are not sorted in XML header
+        responseItems.getResponseItem().add(createResponseItem("2021-07-22T23:00Z/2021-07-23T00:00Z", "20210723_0130_2D5_CGM.uct"));
+        responseItems.getResponseItem().add(createResponseItem("2021-07-22T22:00Z/2021-07-22T23:00Z", "20210723_0030_2D5_CGM.uct"));
+        final Payload payload = new Payload();
+        payload.setResponseItems(responseItems);
+        final ResponseMessage responseMessage = new ResponseMessage();
+        responseMessage.setPayload(payload);
+        return responseMessage;
+    }
+
+    private static ResponseItem createResponseItem(final String timeInterval, final String cgmFileName) {
+        final File file = new File();
+        file.setUrl("fileName://" + cgmFileName);
+        final Files files = new Files();
+        files.getFile().add(file);
+        final ResponseItem responseItem = new ResponseItem();
+        responseItem.setTimeInterval(timeInterval);
+        responseItem.setFiles(files);
+        return responseItem;
+    }
+}
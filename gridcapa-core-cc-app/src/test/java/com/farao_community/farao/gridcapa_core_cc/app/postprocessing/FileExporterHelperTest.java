@@ -15,7 +15,10 @@ import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoRequest;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoResult;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
 import com.farao_community.farao.gridcapa_core_cc.app.MinioFileWriter;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.NetworkCacheConfiguration;
 import com.farao_community.farao.gridcapa_core_cc.app.services.FileImporter;
+import com.farao_community.farao.gridcapa_core_cc.app.services.MinioObjectCopier;
+import com.farao_community.farao.gridcapa_core_cc.app.services.NetworkCache;
 import com.farao_community.farao.gridcapa_core_cc.app.util.CoreNetworkImporterWrapper;
 import com.farao_community.farao.gridcapa_core_cc.app.util.JaxbUtil;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
@@ -58,6 +61,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 /**
@@ -78,6 +82,8 @@ class FileExporterHelperTest {
     private FileImporter fileImporter;
     private MinioAdapter minioAdapter;
     private RegularOrDcCgmNetworkResolver regularOrDcCgmNetworkResolver;
+    private final NetworkCache networkCache = new NetworkCache(new NetworkCacheConfiguration(1));
+    private final MinioObjectCopier minioObjectCopier = Mockito.mock(MinioObjectCopier.class);
     private InternalCoreCCRequest coreCCRequest;
     private HourlyRaoResult hourlyRaoResult;
     private HourlyRaoRequest hourlyRaoRequest;
@@ -129,12 +135,12 @@ class FileExporterHelperTest {
         when(coreCCRequest.getTimeInterval()).thenReturn("2023-07-25T15:02:00Z/2023-07-25T15:03:00Z");
         when(coreCCRequest.getParameters()).thenReturn(List.of(new TaskParameterDto("USE_DC_CGM_INPUT", "BOOLEAN", "FALSE", "FALSE")));
         regularOrDcCgmNetworkResolver = Mockito.mock(RegularOrDcCgmNetworkResolver.class);
-        when(regularOrDcCgmNetworkResolver.resolve(anyBoolean(), any())).thenReturn(network);
+        when(regularOrDcCgmNetworkResolver.resolve(anyBoolean(), any(), any())).thenReturn(network);
     }
 
     @Test
     void exportNetworkToMinio() throws IOException {
-        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioFileWriter, fileImporter, regularOrDcCgmNetworkResolver);
+        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioFileWriter, fileImporter, regularOrDcCgmNetworkResolver, networkCache, minioObjectCopier);
         fileExporterHelper.exportNetworkToMinio(coreCCRequest);
         LocalDateTime utcLocalDateTime = timestamp.atZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
         String generatedFilePath = TEMP_DIR + "/gridcapa-core-cc/CORE_CC/CGM_OUT/" + utcLocalDateTime + "/" + utcLocalDateTime.plusHours(1L) + "/path/20230725_1730_2D2_UX1.uct";
@@ -166,24 +172,33 @@ class FileExporterHelperTest {
     @Test
     void errorWhenUploadingNetworkToMinio() {
         when(coreCCRequest.getTimestamp()).thenThrow(new RuntimeException("Timestamp could not be retrieved."));
-        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioAdapter, fileImporter, regularOrDcCgmNetworkResolver);
+        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioAdapter, fileImporter, regularOrDcCgmNetworkResolver, networkCache, minioObjectCopier);
         CoreCCInternalException exception = assertThrows(CoreCCInternalException.class, () -> fileExporterHelper.exportNetworkToMinio(coreCCRequest));
         assertEquals("Network with PRA could not be uploaded to minio", exception.getMessage());
     }
 
     @Test
     void exportRaoResultToMinio() throws IOException {
-        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioFileWriter, fileImporter, regularOrDcCgmNetworkResolver);
+        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioFileWriter, fileImporter, regularOrDcCgmNetworkResolver, networkCache, minioObjectCopier);
         fileExporterHelper.exportRaoResultToMinio(coreCCRequest);
         LocalDateTime utcLocalDateTime = timestamp.atZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
         String generatedFilePath = TEMP_DIR + "/gridcapa-core-cc/CORE_CC/RAO_RESULT/" + utcLocalDateTime + "/" + utcLocalDateTime.plusHours(1L) + "/path/CASTOR-INTERNAL-RESULTS_20230725_1730.json";
         assertFilesContentEqual("/fileExporterHelper/uploadedRaoResult.json", generatedFilePath);
     }
 
+    @Test
+    void raoResultCopiedByMinioIsNotUploaded() {
+        when(minioObjectCopier.copyOutputForTimestamp(eq("raoResult.json"), any(), eq("CORE_CC"), eq("RAO_RESULT"), eq(timestamp))).thenReturn(true);
+        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioAdapter, fileImporter, regularOrDcCgmNetworkResolver, networkCache, minioObjectCopier);
+        fileExporterHelper.exportRaoResultToMinio(coreCCRequest);
+        Mockito.verify(minioAdapter, Mockito.never()).uploadOutputForTimestamp(any(), any(), any(), any(), any());
+        Mockito.verify(fileImporter, Mockito.never()).importFileUrlAsInputStream(any());
+    }
+
     @Test
     void errorWhenUploadingRaoResultToMinio() {
         when(coreCCRequest.getTimestamp()).thenThrow(new RuntimeException("Timestamp could not be retrieved."));
-        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioAdapter, fileImporter, regularOrDcCgmNetworkResolver);
+        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioAdapter, fileImporter, regularOrDcCgmNetworkResolver, networkCache, minioObjectCopier);
         RuntimeException exception = assertThrows(RuntimeException.class, () -> fileExporterHelper.exportRaoResultToMinio(coreCCRequest));
         assertEquals("Timestamp could not be retrieved.", exception.getMessage());
     }
@@ -201,7 +216,7 @@ class FileExporterHelperTest {
         when(hourlyRaoResult.getStatus()).thenReturn(HourlyRaoResult.Status.SUCCESS);
         when(hourlyRaoResult.getErrorCodeString()).thenReturn("0");
         when(hourlyRaoResult.getErrorMessage()).thenReturn("Error message.");
-        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioFileWriter, fileImporter, regularOrDcCgmNetworkResolver);
+        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioFileWriter, fileImporter, regularOrDcCgmNetworkResolver, networkCache, minioObjectCopier);
         fileExporterHelper.exportMetadataToMinio(coreCCRequest);
         LocalDateTime utcLocalDateTime = timestamp.atZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
         String generatedFilePath = TEMP_DIR + "/gridcapa-core-cc/CORE_CC/METADATA/" + utcLocalDateTime + "/" + utcLocalDateTime.plusHours(1L) + "/path/20230725_1830_METADATA-01.json";
@@ -210,13 +225,13 @@ class FileExporterHelperTest {
 
     @Test
     void errorWhenUploadingMetadataToMinio() {
-        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioAdapter, fileImporter, regularOrDcCgmNetworkResolver);
+        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioAdapter, fileImporter, regularOrDcCgmNetworkResolver, networkCache, minioObjectCopier);
         assertThrows(CoreCCInternalException.class, () -> fileExporterHelper.exportMetadataToMinio(coreCCRequest));
     }
 
     @Test
     void exportCneToMinio() throws IOException {
-        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioFileWriter, fileImporter, regularOrDcCgmNetworkResolver);
+        FileExporterHelper fileExporterHelper = new FileExporterHelper(minioFileWriter, fileImporter, regularOrDcCgmNetworkResolver, networkCache, minioObjectCopier);
 
         String cracXmlFileName = "/util/crac.json";
         String cracJsonFileName = "/util/crac.json";
@@ -237,7 +252,7 @@ class FileExporterHelperTest {
         when(fbConstraintCreationContext.getCrac()).thenReturn(crac);
         when(fbConstraintCreationContext.isCreationSuccessful()).thenReturn(true);
         when(fbConstraintCreationContext.getTimeStamp()).thenReturn(timestamp);
-        when(fileImporter.importCrac(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(fbConstraintCreationContext);
+        when(fileImporter.importCrac(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(fbConstraintCreationContext);
 
         RaoResult raoResult = RaoResult.read(Files.newInputStream(raoResultFilePath), crac);
         when(fileImporter.importRaoResult(Mockito.any(), Mockito.any())).thenReturn(raoResult);
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.postprocessing;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInternalException;
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.PostProcessingConfiguration;
+import com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+class OutputsExporterTest {
+
+    private final FileExporterHelper fileExporterHelper = Mockito.mock(FileExporterHelper.class);
+    private final InternalCoreCCRequest coreCCRequest = Mockito.mock(InternalCoreCCRequest.class);
+    private OutputsExporter outputsExporter;
+
+    @AfterEach
+    void tearDown() {
+        outputsExporter.shutdown();
+    }
+
+    @Test
+    void exportsRunConcurrently() throws Exception {
+        outputsExporter = new OutputsExporter(fileExporterHelper, createConfiguration(), new CoreCCMetrics(new SimpleMeterRegistry()));
+        // Each export waits for the two others to have started
+        final CountDownLatch startedExports = new CountDownLatch(3);
+        doAnswer(invocation -> awaitOtherExports(startedExports)).when(fileExporterHelper).exportCneToMinio(eq(coreCCRequest), any());
+        doAnswer(invocation -> awaitOtherExports(startedExports)).when(fileExporterHelper).exportNetworkToMinio(eq(coreCCRequest), any());
+        doAnswer(invocation -> awaitOtherExports(startedExports)).when(fileExporterHelper).exportRaoResultToMinio(coreCCRequest);
+
+        outputsExporter.exportOutputs(coreCCRequest);
+
+        assertEquals(0, startedExports.getCount());
+    }
+
+    @Test
+    void allExportsCompleteWhenOneFails() throws Exception {
+        outputsExporter = new OutputsExporter(fileExporterHelper, createConfiguration(), new CoreCCMetrics(new SimpleMeterRegistry()));
+        final CoreCCInvalidDataException failure = new CoreCCInvalidDataException("Crac creation context failed");
+        doThrow(failure).when(fileExporterHelper).exportCneToMinio(eq(coreCCRequest), any());
+
+        final CoreCCInvalidDataException exception = assertThrows(CoreCCInvalidDataException.class, () -> outputsExporter.exportOutputs(coreCCRequest));
+
+        assertSame(failure, exception);
+        verify(fileExporterHelper).exportNetworkToMinio(eq(coreCCRequest), any());
+        verify(fileExporterHelper).exportRaoResultToMinio(coreCCRequest);
+    }
+
+    @Test
+    void failuresAreAggregated() throws Exception {
+        outputsExporter = new OutputsExporter(fileExporterHelper, createConfiguration(), new CoreCCMetrics(new SimpleMeterRegistry()));
+        doThrow(new CoreCCInvalidDataException("Crac creation context failed")).when(fileExporterHelper).exportCneToMinio(eq(coreCCRequest), any());
+        doThrow(new CoreCCInternalException("Rao result could not be uploaded")).when(fileExporterHelper).exportRaoResultToMinio(coreCCRequest);
+
+        final CoreCCInternalException exception = assertThrows(CoreCCInternalException.class, () -> outputsExporter.exportOutputs(coreCCRequest));
+
+        assertEquals("Exports failed: CNE (Crac creation context failed), RAO result (Rao result could not be uploaded)", exception.getMessage());
+        assertEquals(1, exception.getSuppressed().length);
+    }
+
+    private static Void awaitOtherExports(final CountDownLatch startedExports) throws InterruptedException {
+        startedExports.countDown();
+        assertTrue(startedExports.await(10, TimeUnit.SECONDS));
+        return null;
+    }
+
+    private static PostProcessingConfiguration createConfiguration() {
+        return new PostProcessingConfiguration(3);
+    }
+}
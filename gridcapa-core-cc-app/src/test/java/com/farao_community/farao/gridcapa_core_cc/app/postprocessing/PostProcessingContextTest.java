@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.postprocessing;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInternalException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostProcessingContextTest {
+
+    private final Network network = Mockito.mock(Network.class);
+    private final Crac crac = Mockito.mock(Crac.class);
+    private final RaoResult raoResult = Mockito.mock(RaoResult.class);
+
+    @Test
+    void inputsAreLoadedOnceOnFirstUse() {
+        final AtomicInteger networkLoads = new AtomicInteger();
+        final AtomicInteger cracLoads = new AtomicInteger();
+        final AtomicInteger raoResultLoads = new AtomicInteger();
+        final PostProcessingContext postProcessingContext = new PostProcessingContext(
+            () -> {
+                networkLoads.incrementAndGet();
+                return network;
+            },
+            n -> {
+                assertSame(network, n);
+                cracLoads.incrementAndGet();
+                return crac;
+            },
+            c -> {
+                assertSame(crac, c);
+                raoResultLoads.incrementAndGet();
+                return raoResult;
+            });
+        assertEquals(0, networkLoads.get());
+
+        assertSame(raoResult, postProcessingContext.getRaoResult());
+        assertSame(raoResult, postProcessingContext.getRaoResult());
+        assertSame(crac, postProcessingContext.getCrac());
+        assertSame(network, postProcessingContext.getNetwork());
+
+        assertEquals(1, networkLoads.get());
+        assertEquals(1, cracLoads.get());
+        assertEquals(1, raoResultLoads.get());
+    }
+
+    @Test
+    void failedLoadIsRetried() {
+        final AtomicInteger raoResultLoads = new AtomicInteger();
+        final PostProcessingContext postProcessingContext = new PostProcessingContext(() -> network, n -> crac, c -> {
+            if (raoResultLoads.incrementAndGet() == 1) {
+                throw new CoreCCInternalException("RAO result could not be read");
+            }
+            return raoResult;
+        });
+
+        assertThrows(CoreCCInternalException.class, postProcessingContext::getRaoResult);
+        assertSame(raoResult, postProcessingContext.getRaoResult());
+    }
+}
@@ -7,12 +7,10 @@
 
 package com.farao_community.farao.gridcapa_core_cc.app.postprocessing;
 
-import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoRequest;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoResult;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
 import com.farao_community.farao.gridcapa_core_cc.app.entities.CgmsAndXmlHeader;
 import com.farao_community.farao.gridcapa_core_cc.app.services.FileImporter;
-import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
@@ -21,7 +19,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
@@ -35,7 +32,6 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,9 +45,6 @@ class RegularOrDcCgmNetworkResolverServiceTest {
     @Mock
     private FileImporter fileImporter;
 
-    @Mock
-    private MinioAdapter minioAdapter;
-
     @InjectMocks
     private RegularOrDcCgmNetworkResolver regularOrDcCgmNetworkResolver;
 
@@ -60,14 +53,12 @@ class RegularOrDcCgmNetworkResolverServiceTest {
     private final Network network = Network.read(networkPath);
 
     private InternalCoreCCRequest coreCCRequest;
-    private HourlyRaoRequest hourlyRaoRequest;
     private HourlyRaoResult hourlyRaoResult;
 
     @BeforeEach
     void setUp() {
         coreCCRequest = mock(InternalCoreCCRequest.class);
         hourlyRaoResult = mock(HourlyRaoResult.class);
-        hourlyRaoRequest = mock(HourlyRaoRequest.class);
         cgmsAndXmlHeader = mock(CgmsAndXmlHeader.class);
         when(coreCCRequest.getHourlyRaoResult()).thenReturn(hourlyRaoResult);
     }
@@ -82,38 +73,32 @@ class RegularOrDcCgmNetworkResolverServiceTest {
         final Path raoResultFilePath = Paths.get(getClass().getResource(raoResultFileName).getPath());
         final Crac crac = Crac.read(cracJsonFilePath.getFileName().toString(), Files.newInputStream(cracJsonFilePath), network);
         final RaoResult raoResult = RaoResult.read(Files.newInputStream(raoResultFilePath), crac);
+        final PostProcessingContext postProcessingContext = new PostProcessingContext(() -> network, n -> crac, c -> raoResult);
         //mock cgms
-        when(coreCCRequest.getHourlyRaoRequest()).thenReturn(hourlyRaoRequest);
-        when(fileImporter.importCgmsZip(any())).thenReturn(cgmsAndXmlHeader);
+        when(fileImporter.importCgmsZip(any(), any(Instant.class))).thenReturn(cgmsAndXmlHeader);
         //mock cgm path
         when(cgmsAndXmlHeader.getNetworkPath(any(Instant.class))).thenReturn(networkPath);
-        //mock crac
         when(hourlyRaoResult.getRaoRequestInstant()).thenReturn("2023-05-31T00:00:00Z");
-        when(hourlyRaoRequest.getCracFileUrl()).thenReturn(cracJsonFilePath.toString());
-
-        //
-        when(fileImporter.importRaoResult(null, crac)).thenReturn(raoResult);
-        try (final MockedStatic<Crac> mockedStatic = mockStatic(Crac.class)) {
-            mockedStatic.when(() -> Crac.read(any(), any(), any())).thenReturn(crac);
-            final Network result = regularOrDcCgmNetworkResolver.resolve(true, coreCCRequest);
-
-            assertNotNull(result);
-            //Corresponding TWT must have its current tap position switch from 0 to -6
-            assertEquals(0, network.getTwoWindingsTransformer("BBE2AA1  BBE3AA1  1").getPhaseTapChanger().getTapPosition());
-            assertEquals(-6, result.getTwoWindingsTransformer("BBE2AA1  BBE3AA1  1").getPhaseTapChanger().getTapPosition());
-            verify(fileImporter, never()).importNetworkFromUrl(any());
-        }
+
+        final Network result = regularOrDcCgmNetworkResolver.resolve(true, coreCCRequest, postProcessingContext);
+
+        assertNotNull(result);
+        //Corresponding TWT must have its current tap position switch from 0 to -6
+        assertEquals(0, network.getTwoWindingsTransformer("BBE2AA1  BBE3AA1  1").getPhaseTapChanger().getTapPosition());
+        assertEquals(-6, result.getTwoWindingsTransformer("BBE2AA1  BBE3AA1  1").getPhaseTapChanger().getTapPosition());
+        verify(fileImporter, never()).importNetworkFromUrl(any());
+        verify(fileImporter, never()).importRaoResult(any(), any());
     }
 
     @Test
     void testResolveWithUseDcCGmInputFalse() {
         when(fileImporter.importNetworkFromUrl(any())).thenReturn(network);
 
-        final Network result = regularOrDcCgmNetworkResolver.resolve(false, coreCCRequest);
+        final Network result = regularOrDcCgmNetworkResolver.resolve(false, coreCCRequest, mock(PostProcessingContext.class));
 
         assertNotNull(result);
         verify(fileImporter).importNetworkFromUrl(any());
-        verify(fileImporter, never()).importCgmsZip(any());
-        verify(fileImporter, never()).importCrac(any(), any(), eq(network));
+        verify(fileImporter, never()).importCgmsZip(any(), any());
+        verify(fileImporter, never()).importCrac(any(), any(), eq(network), any());
     }
 }
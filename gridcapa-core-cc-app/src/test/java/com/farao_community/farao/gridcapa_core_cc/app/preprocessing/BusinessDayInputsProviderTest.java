@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.preprocessing;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCFileResource;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.BusinessDayBatchConfiguration;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.InputsPrefetchConfiguration;
+import com.farao_community.farao.gridcapa_core_cc.app.entities.CgmsAndXmlHeader;
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
+import com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics;
+import com.farao_community.farao.gridcapa_core_cc.app.services.FileImporter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.powsybl.openrao.virtualhubs.VirtualHubsConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BusinessDayInputsProviderTest {
+
+    private final FileImporter fileImporter = Mockito.mock(FileImporter.class);
+    private final CoreCCMetrics coreCCMetrics = new CoreCCMetrics(new SimpleMeterRegistry());
+    private final RequestMessage raoRequestMessage = new RequestMessage();
+    private final VirtualHubsConfiguration virtualHubsConfiguration = Mockito.mock(VirtualHubsConfiguration.class);
+    private final CgmsAndXmlHeader cgmsAndXmlHeader = Mockito.mock(CgmsAndXmlHeader.class);
+
+    @BeforeEach
+    void setUp() {
+        when(fileImporter.importRaoRequest(any())).thenReturn(raoRequestMessage);
+        when(fileImporter.importRaoRequest(any(), any())).thenReturn(raoRequestMessage);
+        when(fileImporter.importVirtualHubs(any())).thenReturn(virtualHubsConfiguration);
+        when(fileImporter.importCgmsZip(any())).thenReturn(cgmsAndXmlHeader);
+        when(fileImporter.importCgmsZip(any(), any())).thenReturn(cgmsAndXmlHeader);
+    }
+
+    @Test
+    void inputsAreImportedForEachTaskWhenBatchModeIsDisabled() {
+        final BusinessDayInputsProvider provider = new BusinessDayInputsProvider(fileImporter, createConfiguration(false), createPrefetcher(), coreCCMetrics);
+
+        final BusinessDayInputs inputs = provider.getInputs(createRequest("2021-07-22T22:30Z", "sig=1"));
+        provider.getInputs(createRequest("2021-07-22T23:30Z", "sig=2"));
+
+        assertSame(raoRequestMessage, inputs.raoRequestMessage());
+        assertSame(virtualHubsConfiguration, inputs.virtualHubsConfiguration());
+        assertSame(cgmsAndXmlHeader, inputs.cgmsAndXmlHeader());
+        assertNull(inputs.dcCgmsAndXmlHeader());
+        verify(fileImporter, times(2)).importRaoRequest(any(), any());
+        verify(fileImporter, times(2)).importCgmsZip(any(), any());
+    }
+
+    @Test
+    void inputsAreImportedOncePerBusinessDayWhenBatchModeIsEnabled() {
+        final BusinessDayInputsProvider provider = new BusinessDayInputsProvider(fileImporter, createConfiguration(true), createPrefetcher(), coreCCMetrics);
+
+        final BusinessDayInputs firstHourInputs = provider.getInputs(createRequest("2021-07-22T22:30Z", "sig=1"));
+        final BusinessDayInputs secondHourInputs = provider.getInputs(createRequest("2021-07-22T23:30Z", "sig=2"));
+
+        assertSame(firstHourInputs, secondHourInputs);
+        verify(fileImporter, times(1)).importRaoRequest(any());
+        verify(fileImporter, times(1)).importVirtualHubs(any());
+        verify(fileImporter, times(1)).importCgmsZip(any());
+    }
+
+    @Test
+    void inputsAreImportedAgainWhenUpdated() {
+        final BusinessDayInputsProvider provider = new BusinessDayInputsProvider(fileImporter, createConfiguration(true), createPrefetcher(), coreCCMetrics);
+        when(fileImporter.getFileVersion(any())).thenReturn("\"etag-1\"");
+        provider.getInputs(createRequest("2021-07-22T22:30Z", "sig=1"));
+        when(fileImporter.getFileVersion(any())).thenReturn("\"etag-2\"");
+        provider.getInputs(createRequest("2021-07-22T23:30Z", "sig=2"));
+
+        verify(fileImporter, times(2)).importRaoRequest(any());
+        verify(fileImporter, times(2)).importCgmsZip(any());
+    }
+
+    @Test
+    void failedImportIsNotCached() {
+        final BusinessDayInputsProvider provider = new BusinessDayInputsProvider(fileImporter, createConfiguration(true), createPrefetcher(), coreCCMetrics);
+        when(fileImporter.importVirtualHubs(any()))
+                .thenThrow(new CoreCCInvalidDataException("Cannot download VirtualHubs file"))
+                .thenReturn(virtualHubsConfiguration);
+        final InternalCoreCCRequest request = createRequest("2021-07-22T22:30Z", "sig=1");
+
+        assertThrows(CoreCCInvalidDataException.class, () -> provider.getInputs(request));
+        final BusinessDayInputs inputs = provider.getInputs(request);
+
+        assertSame(virtualHubsConfiguration, inputs.virtualHubsConfiguration());
+        verify(fileImporter, times(2)).importRaoRequest(any());
+    }
+
+    @Test
+    void prefetchFailureIsThrown() {
+        final BusinessDayInputsProvider provider = new BusinessDayInputsProvider(fileImporter, createConfiguration(false), createPrefetcher(), coreCCMetrics);
+        when(fileImporter.importVirtualHubs(any())).thenThrow(new CoreCCInvalidDataException("Cannot download VirtualHubs file"));
+        final InternalCoreCCRequest request = createRequest("2021-07-22T22:30Z", "sig=1");
+
+        assertThrows(CoreCCInvalidDataException.class, () -> provider.getInputs(request));
+    }
+
+    @Test
+    void otherPrefetchesAreInterruptedWhenOneInputFails() throws InterruptedException {
+        final BusinessDayInputsProvider provider = new BusinessDayInputsProvider(fileImporter, createConfiguration(false), createPrefetcher(), coreCCMetrics);
+        final CountDownLatch cgmImportInterrupted = new CountDownLatch(1);
+        when(fileImporter.importRaoRequest(any(), any())).thenThrow(new CoreCCInvalidDataException("Cannot download RaoRequest file"));
+        when(fileImporter.importCgmsZip(any(), any())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(60_000);
+            } catch (final InterruptedException e) {
+                cgmImportInterrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            throw new CoreCCInvalidDataException("Cannot download CGM file");
+        });
+        final InternalCoreCCRequest request = createRequest("2021-07-22T22:30Z", "sig=1");
+
+        assertThrows(CoreCCInvalidDataException.class, () -> provider.getInputs(request));
+        assertTrue(cgmImportInterrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    private static InputsPrefetcher createPrefetcher() {
+        return new InputsPrefetcher(new InputsPrefetchConfiguration(10, 10, 10));
+    }
+
+    private static BusinessDayBatchConfiguration createConfiguration(final boolean enabled) {
+        return new BusinessDayBatchConfiguration(enabled, 2);
+    }
+
+    private static InternalCoreCCRequest createRequest(final String timestamp, final String signature) {
+        final CoreCCFileResource cgm = new CoreCCFileResource("cgm.zip", "http://minio:9000/cgm.zip?" + signature);
+        final CoreCCFileResource cbcora = new CoreCCFileResource("cbcora.xml", "http://minio:9000/cbcora.xml?" + signature);
+        final CoreCCFileResource glsk = new CoreCCFileResource("glsk.xml", "http://minio:9000/glsk.xml?" + signature);
+        final CoreCCFileResource refProg = new CoreCCFileResource("refprog.xml", "http://minio:9000/refprog.xml?" + signature);
+        final CoreCCFileResource raoRequest = new CoreCCFileResource("raorequest.xml", "http://minio:9000/raorequest.xml?" + signature);
+        final CoreCCFileResource virtualHub = new CoreCCFileResource("virtualhub.xml", "http://minio:9000/virtualhub.xml?" + signature);
+        final CoreCCRequest coreCCRequest = new CoreCCRequest("id", "runId", OffsetDateTime.parse(timestamp), cgm, null, cbcora,
+                glsk, refProg, raoRequest, virtualHub, List.of());
+        return new InternalCoreCCRequest(coreCCRequest);
+    }
+}
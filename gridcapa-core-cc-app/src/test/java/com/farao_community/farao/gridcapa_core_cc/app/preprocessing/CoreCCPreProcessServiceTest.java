@@ -13,13 +13,21 @@ import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCRequest;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoRequest;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoResult;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.BusinessDayBatchConfiguration;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.InputsPrefetchConfiguration;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.NetworkExchangeConfiguration;
 import com.farao_community.farao.gridcapa_core_cc.app.domain.CoreCCTaskParameters;
+import com.farao_community.farao.gridcapa_core_cc.app.domain.NetworkExchangeFormat;
 import com.farao_community.farao.gridcapa_core_cc.app.entities.CgmsAndXmlHeader;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.Header;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.Payload;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_response.Reply;
 import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_response.ResponseMessage;
+import com.farao_community.farao.gridcapa_core_cc.app.services.CoreCCMetrics;
 import com.farao_community.farao.gridcapa_core_cc.app.services.FileImporter;
+import com.farao_community.farao.gridcapa_core_cc.app.services.NetworkCache;
+import com.farao_community.farao.gridcapa_core_cc.app.util.NamingRules;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.api.Crac;
@@ -30,21 +38,30 @@ import com.unicorn.response.response_payload.File;
 import com.unicorn.response.response_payload.Files;
 import com.unicorn.response.response_payload.ResponseItem;
 import com.unicorn.response.response_payload.ResponseItems;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.slf4j.Logger;
 
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -52,8 +69,10 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -73,6 +92,7 @@ class CoreCCPreProcessServiceTest {
     private final Path networkPath = Paths.get(getClass().getResource(networkFile).getPath());
     private final Path dcNetworkPath = Paths.get(getClass().getResource(dcNetworkFile).getPath());
     private final Network network = Network.read(networkPath);
+    private final CoreCCMetrics coreCCMetrics = new CoreCCMetrics(new SimpleMeterRegistry());
 
     @Mock
     private MinioAdapter minioAdapter;
@@ -83,15 +103,24 @@ class CoreCCPreProcessServiceTest {
     @Mock
     private FileImporter fileImporter;
 
-    @InjectMocks
     private CoreCCPreProcessService coreCCPreProcessService;
 
+    @Mock
+    private NetworkCache networkCache;
+
+    @Mock
+    private NetworkExchangeConfiguration networkExchangeConfiguration;
+
     @Mock
     private Logger businessLogger;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(networkExchangeConfiguration.getFormat()).thenReturn(NetworkExchangeFormat.XIIDM);
+        final InputsPrefetcher inputsPrefetcher = new InputsPrefetcher(new InputsPrefetchConfiguration(10, 10, 10));
+        final BusinessDayInputsProvider businessDayInputsProvider = new BusinessDayInputsProvider(fileImporter, new BusinessDayBatchConfiguration(false, 2), inputsPrefetcher, coreCCMetrics);
+        coreCCPreProcessService = new CoreCCPreProcessService(businessLogger, minioAdapter, raoParametersService, fileImporter, businessDayInputsProvider, networkCache, networkExchangeConfiguration, coreCCMetrics);
     }
 
     @Test
@@ -142,6 +171,60 @@ class CoreCCPreProcessServiceTest {
         coreCCPreProcessService.initializeTaskFromAutomatedLaunch(coreCCRequest);
         //
         verifyNominalHourlyData(coreCCRequest, raoParametersFileUrl);
+        verify(networkCache).put(Mockito.eq(coreCCRequest.getHourlyRaoRequest().getNetworkFileUrl()), any(Network.class));
+    }
+
+    @Test
+    void testRaoRequestAcknowledgmentContent() throws Exception {
+        final CoreCCFileResource dummyFileResource = mock(CoreCCFileResource.class);
+        when(dummyFileResource.getUrl()).thenReturn("fakeUrl");
+        final CoreCCRequest coreCCRequestEntity = new CoreCCRequest(
+                "id", "current RunID", REQUEST_TIMESTAMP, dummyFileResource, null, dummyFileResource,
+                dummyFileResource, dummyFileResource, dummyFileResource,
+                dummyFileResource, createTaskParametersList(false));
+        final InternalCoreCCRequest coreCCRequest = new InternalCoreCCRequest(coreCCRequestEntity);
+        prepareAndMockRaoRequest(dummyFileResource);
+        when(raoParametersService.uploadJsonRaoParameters(any(), any(), any())).thenReturn("raoParametersFileUrl");
+        prepareAndMockCgmsAndXmlHeader(dummyFileResource, true, networkFile, networkPath);
+        mockCrac();
+        final List<byte[]> uploadedAcks = new ArrayList<>();
+        Mockito.doAnswer(invocation -> uploadedAcks.add(invocation.getArgument(1, java.io.InputStream.class).readAllBytes()))
+                .when(minioAdapter).uploadArtifact(Mockito.startsWith("RAO_OUTPUTS_DIR/"), any());
+
+        coreCCPreProcessService.initializeTaskFromAutomatedLaunch(coreCCRequest);
+
+        assertEquals(1, uploadedAcks.size());
+        final String ack = new String(uploadedAcks.get(0), StandardCharsets.UTF_8);
+        assertEquals(marshalAckAsBefore(buildExpectedAck()), ack);
+        assertTrue(ack.contains("<ResponseMessage "));
+        assertTrue(ack.contains("xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""));
+        assertFalse(ack.contains("xsi:ResponseMessage"));
+    }
+
+    @Test
+    void testInitializeTaskFromRequestWithBinaryNetworkExchangeFormat() throws IOException {
+        when(networkExchangeConfiguration.getFormat()).thenReturn(NetworkExchangeFormat.BIIDM);
+        final CoreCCFileResource dummyFileResource = mock(CoreCCFileResource.class);
+        when(dummyFileResource.getUrl()).thenReturn("fakeUrl");
+        final CoreCCRequest coreCCRequestEntity = new CoreCCRequest(
+                "id", "current RunID", REQUEST_TIMESTAMP, dummyFileResource, null, dummyFileResource,
+                dummyFileResource, dummyFileResource, dummyFileResource,
+                dummyFileResource, createTaskParametersList(false));
+        final InternalCoreCCRequest coreCCRequest = new InternalCoreCCRequest(coreCCRequestEntity);
+        prepareAndMockRaoRequest(dummyFileResource);
+        when(raoParametersService.uploadJsonRaoParameters(any(), any(), any())).thenReturn("raoParametersFileUrl");
+        prepareAndMockCgmsAndXmlHeader(dummyFileResource, true, networkFile, networkPath);
+        mockCrac();
+        final String networkFileUrl = "RAO_WORKING_DIR/20240625_0800/inputs/networks/20240625_0600.biidm";
+        final List<Network> uploadedNetworks = new ArrayList<>();
+        Mockito.doAnswer(invocation -> uploadedNetworks.add(Network.read("20240625_0600.biidm", invocation.getArgument(1, java.io.InputStream.class))))
+                .when(minioAdapter).uploadArtifact(Mockito.eq(networkFileUrl), any());
+
+        coreCCPreProcessService.initializeTaskFromAutomatedLaunch(coreCCRequest);
+
+        assertEquals(networkFileUrl, coreCCRequest.getHourlyRaoRequest().getNetworkFileUrl());
+        assertEquals(1, uploadedNetworks.size());
+        assertEquals(network.getLineCount(), uploadedNetworks.get(0).getLineCount());
     }
 
     @Test
@@ -193,6 +276,8 @@ class CoreCCPreProcessServiceTest {
         verifyDefaultRaoRequest(coreCCRequest);
         assertEquals("Error occurred while trying to import inputs at timestamp: 2024-06-25T06:00:00Z. Origin cause : Exception occurred while importing CRAC file: null", coreCCRequest.getHourlyRaoResult().getErrorMessage());
         assertEquals("2024-06-25T06:00:00Z", coreCCRequest.getHourlyRaoResult().getRaoRequestInstant());
+        // Network of a failed timestamp is never released, so it is not cached
+        verify(networkCache, times(0)).put(any(), any());
     }
 
     private static Stream<Arguments> provideResolveCgmPathArgs() {
@@ -257,13 +342,17 @@ class CoreCCPreProcessServiceTest {
     }
 
     private void mockCrac() throws IOException {
-        final Path cracJsonFilePath = Paths.get(getClass().getResource("/util/crac.json").getPath());
-        final Crac crac = Crac.read(cracJsonFilePath.getFileName().toString(), java.nio.file.Files.newInputStream(cracJsonFilePath), network);
+        final Crac crac = readCrac();
         final FbConstraintCreationContext cracCreationContext = Mockito.mock(FbConstraintCreationContext.class);
-        when(fileImporter.importCrac(any(), any(), any())).thenReturn(cracCreationContext);
+        when(fileImporter.importCrac(any(), any(), any(), any())).thenReturn(cracCreationContext);
         when(cracCreationContext.getCrac()).thenReturn(crac);
     }
 
+    private Crac readCrac() throws IOException {
+        final Path cracJsonFilePath = Paths.get(getClass().getResource("/util/crac.json").getPath());
+        return Crac.read(cracJsonFilePath.getFileName().toString(), java.nio.file.Files.newInputStream(cracJsonFilePath), network);
+    }
+
     private static void verifyNominalHourlyData(final InternalCoreCCRequest coreCCRequest,
                                                 final String raoParametersFileUrl) {
         final HourlyRaoRequest hourlyRaoRequest = coreCCRequest.getHourlyRaoRequest();
@@ -295,8 +384,6 @@ class CoreCCPreProcessServiceTest {
         final ResponseItems responseItems = Mockito.mock(ResponseItems.class);
         responseMessage.setPayload(payloadResponse);
 
-        final CgmsAndXmlHeader cgmsAndXmlHeader = new CgmsAndXmlHeader(responseMessage, mockFiles ? List.of(dcNetworkPath) : new ArrayList<>());
-        when(fileImporter.importCgmsZip(dummyFileResource)).thenReturn(cgmsAndXmlHeader);
         payloadResponse.setResponseItems(responseItems);
         final List<ResponseItem> responseItemList = new ArrayList<>();
         if (mockFiles) {
@@ -311,6 +398,34 @@ class CoreCCPreProcessServiceTest {
         }
         when(responseItems.getResponseItem()).thenReturn(responseItemList);
         when(responseItems.getTimeInterval()).thenReturn(TIME_INTERVAL_6_7);
+        // CGM paths are indexed when CgmsAndXmlHeader is created: response items must be set before
+        final CgmsAndXmlHeader cgmsAndXmlHeader = new CgmsAndXmlHeader(responseMessage, mockFiles ? List.of(dcNetworkPath) : new ArrayList<>());
+        when(fileImporter.importCgmsZip(Mockito.eq(dummyFileResource), Mockito.any(Instant.class))).thenReturn(cgmsAndXmlHeader);
+    }
+
+    private static ResponseMessage buildExpectedAck() {
+        final ResponseMessage responseMessage = new ResponseMessage();
+        responseMessage.setHeader(new com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_response.Header());
+        responseMessage.getHeader().setVerb("reply");
+        responseMessage.getHeader().setSource(NamingRules.XML_RESPONSE_GENERATOR_SENDER_ID);
+        responseMessage.getHeader().setMessageID(NamingRules.XML_RESPONSE_GENERATOR_SENDER_ID + "-20240625-F302-ACK");
+        responseMessage.getHeader().setCorrelationID("ID");
+        final Reply reply = new Reply();
+        reply.setResult("OK");
+        responseMessage.setReply(reply);
+        return responseMessage;
+    }
+
+    /**
+     * ACK marshalling as it was done before JAXB contexts were pooled: ACK receivers rely on this exact content.
+     */
+    private static String marshalAckAsBefore(final ResponseMessage responseMessage) throws JAXBException {
+        final StringWriter stringWriter = new StringWriter();
+        final Marshaller jaxbMarshaller = JAXBContext.newInstance(ResponseMessage.class).createMarshaller();
+        jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        final QName qName = new QName(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "ResponseMessage");
+        jaxbMarshaller.marshal(new JAXBElement<>(qName, ResponseMessage.class, responseMessage), stringWriter);
+        return stringWriter.toString().replace("xsi:ResponseMessage", "ResponseMessage");
     }
 
     private void prepareAndMockRaoRequest(final CoreCCFileResource dummyFileResource) {
@@ -326,7 +441,7 @@ class CoreCCPreProcessServiceTest {
         final Header header = new Header();
         header.setCorrelationID("ID");
         raoRequestMessage.setHeader(header);
-        Mockito.when(fileImporter.importRaoRequest(dummyFileResource)).thenReturn(raoRequestMessage);
+        Mockito.when(fileImporter.importRaoRequest(Mockito.eq(dummyFileResource), Mockito.any(Instant.class))).thenReturn(raoRequestMessage);
     }
 
 }
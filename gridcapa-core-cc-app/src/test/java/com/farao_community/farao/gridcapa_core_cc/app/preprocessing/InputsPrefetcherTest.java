@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.preprocessing;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.InputsPrefetchConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.farao_community.farao.gridcapa_core_cc.app.preprocessing.InputsPrefetcher.PrefetchedInput.CGM;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputsPrefetcherTest {
+
+    private final InputsPrefetcher inputsPrefetcher = createPrefetcher();
+
+    @AfterEach
+    void tearDown() {
+        inputsPrefetcher.shutdown();
+    }
+
+    @Test
+    void inputImportedAfterCancellationIsDiscarded() throws Exception {
+        final CountDownLatch importStarted = new CountDownLatch(1);
+        final CompletableFuture<String> discardedInput = new CompletableFuture<>();
+        final CompletableFuture<String> prefetchedInput = inputsPrefetcher.prefetch(CGM, () -> {
+            importStarted.countDown();
+            sleepUntilInterrupted();
+            // Import ends anyway once interrupted
+            return "cgm.zip";
+        }, discardedInput::complete);
+        assertTrue(importStarted.await(10, TimeUnit.SECONDS));
+
+        InputsPrefetcher.cancel(prefetchedInput, discardedInput::complete);
+
+        assertEquals("cgm.zip", discardedInput.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void alreadyImportedInputIsDiscardedOnCancellation() throws Exception {
+        final CompletableFuture<String> discardedInput = new CompletableFuture<>();
+        final CompletableFuture<String> prefetchedInput = inputsPrefetcher.prefetch(CGM, () -> "cgm.zip", discardedInput::complete);
+        assertEquals("cgm.zip", prefetchedInput.get(10, TimeUnit.SECONDS));
+
+        InputsPrefetcher.cancel(prefetchedInput, discardedInput::complete);
+
+        assertEquals("cgm.zip", discardedInput.getNow(null));
+    }
+
+    @Test
+    void timedOutImportIsInterrupted() throws InterruptedException {
+        final CountDownLatch importInterrupted = new CountDownLatch(1);
+        final CompletableFuture<String> prefetchedInput = inputsPrefetcher.prefetch(CGM, () -> {
+            sleepUntilInterrupted();
+            importInterrupted.countDown();
+            return "cgm.zip";
+        });
+
+        assertThrows(CoreCCInvalidDataException.class, () -> InputsPrefetcher.join(CGM, prefetchedInput));
+        assertTrue(importInterrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    private static void sleepUntilInterrupted() {
+        try {
+            Thread.sleep(60_000);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static InputsPrefetcher createPrefetcher() {
+        return new InputsPrefetcher(new InputsPrefetchConfiguration(60, 60, 1));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.CbcoraCacheConfiguration;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.io.fbconstraint.FbConstraintCreationContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+class CbcoraCacheTest {
+
+    private static final String CBCORA_URL = "http://minio:9000/cbcora.xml";
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2021-07-22T22:30Z");
+    private static final String VERSION = "\"etag-1\"";
+    private static final String RUN_ID = "runId";
+
+    private final CbcoraCache cbcoraCache = new CbcoraCache(new CbcoraCacheConfiguration(1, 2));
+    private final Network network = mockNetwork("20210723_0030_2D5_CGM");
+
+    @Test
+    void contentIsDownloadedOncePerBusinessDay() {
+        final AtomicInteger downloads = new AtomicInteger();
+
+        final byte[] content = cbcoraCache.getContent(CBCORA_URL + "?sig=1", VERSION, () -> {
+            downloads.incrementAndGet();
+            return new byte[]{1, 2, 3};
+        });
+        final byte[] otherTaskContent = cbcoraCache.getContent(CBCORA_URL + "?sig=2", VERSION, () -> {
+            downloads.incrementAndGet();
+            return new byte[]{4};
+        });
+
+        assertArrayEquals(new byte[]{1, 2, 3}, content);
+        assertSame(content, otherTaskContent);
+        assertEquals(1, downloads.get());
+    }
+
+    @Test
+    void failedDownloadIsNotCached() {
+        assertThrows(CoreCCInvalidDataException.class, () -> cbcoraCache.getContent(CBCORA_URL, VERSION, () -> {
+            throw new CoreCCInvalidDataException("Cannot download cbcora file");
+        }));
+
+        assertArrayEquals(new byte[]{1}, cbcoraCache.getContent(CBCORA_URL, VERSION, () -> new byte[]{1}));
+    }
+
+    @Test
+    void updatedContentIsDownloadedAgain() {
+        cbcoraCache.getContent(CBCORA_URL, VERSION, () -> new byte[]{1});
+
+        assertArrayEquals(new byte[]{2}, cbcoraCache.getContent(CBCORA_URL, "\"etag-2\"", () -> new byte[]{2}));
+    }
+
+    @Test
+    void contentWithoutVersionIsNotCached() {
+        final AtomicInteger downloads = new AtomicInteger();
+
+        cbcoraCache.getContent(CBCORA_URL, null, () -> new byte[downloads.incrementAndGet()]);
+        cbcoraCache.getContent(CBCORA_URL, null, () -> new byte[downloads.incrementAndGet()]);
+
+        assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void creationContextIsReusedForSameTimestamp() {
+        final FbConstraintCreationContext creationContext = mockCreationContext(true);
+        final FbConstraintCreationContext otherCreationContext = mockCreationContext(true);
+
+        assertSame(creationContext, cbcoraCache.getCreationContext(CBCORA_URL + "?sig=1", VERSION, TIMESTAMP, RUN_ID, network, () -> creationContext));
+        assertSame(creationContext, cbcoraCache.getCreationContext(CBCORA_URL + "?sig=2", VERSION, TIMESTAMP, RUN_ID, network, () -> otherCreationContext));
+        assertSame(otherCreationContext, cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP.plusHours(1), RUN_ID, network, () -> otherCreationContext));
+    }
+
+    @Test
+    void creationContextIsNotReusedForAnotherNetwork() {
+        final FbConstraintCreationContext creationContext = mockCreationContext(true);
+        final FbConstraintCreationContext dcCgmCreationContext = mockCreationContext(true);
+        cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, RUN_ID, network, () -> creationContext);
+
+        assertSame(dcCgmCreationContext, cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, RUN_ID,
+                mockNetwork("20210723_0030_2D5_DC_CGM"), () -> dcCgmCreationContext));
+    }
+
+    @Test
+    void creationContextIsNotReusedForAnotherRun() {
+        final FbConstraintCreationContext creationContext = mockCreationContext(true);
+        final FbConstraintCreationContext rerunCreationContext = mockCreationContext(true);
+        cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, RUN_ID, network, () -> creationContext);
+
+        // Same network id, but CGM may have been corrected before the task was run again
+        assertSame(rerunCreationContext, cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, "otherRunId", network, () -> rerunCreationContext));
+        assertSame(rerunCreationContext, cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, null, network, () -> rerunCreationContext));
+    }
+
+    @Test
+    void creationContextIsNotReusedForUpdatedCbcora() {
+        final FbConstraintCreationContext creationContext = mockCreationContext(true);
+        final FbConstraintCreationContext updatedCreationContext = mockCreationContext(true);
+        cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, RUN_ID, network, () -> creationContext);
+
+        assertSame(updatedCreationContext, cbcoraCache.getCreationContext(CBCORA_URL, "\"etag-2\"", TIMESTAMP, RUN_ID, network, () -> updatedCreationContext));
+    }
+
+    @Test
+    void failedCreationContextIsNotCached() {
+        final FbConstraintCreationContext failedCreationContext = mockCreationContext(false);
+        final FbConstraintCreationContext creationContext = mockCreationContext(true);
+
+        assertSame(failedCreationContext, cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, RUN_ID, network, () -> failedCreationContext));
+        assertSame(creationContext, cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, RUN_ID, network, () -> creationContext));
+    }
+
+    @Test
+    void leastRecentlyUsedCreationContextIsEvicted() {
+        final FbConstraintCreationContext creationContext = mockCreationContext(true);
+        final FbConstraintCreationContext otherCreationContext = mockCreationContext(true);
+        cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, RUN_ID, network, () -> creationContext);
+        cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP.plusHours(1), RUN_ID, network, () -> creationContext);
+        cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP.plusHours(2), RUN_ID, network, () -> creationContext);
+
+        assertSame(otherCreationContext, cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, RUN_ID, network, () -> otherCreationContext));
+    }
+
+    @Test
+    void clearedCreationContextsAreCreatedAgain() {
+        final FbConstraintCreationContext creationContext = mockCreationContext(true);
+        final FbConstraintCreationContext otherCreationContext = mockCreationContext(true);
+        cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, RUN_ID, network, () -> creationContext);
+
+        cbcoraCache.clearCreationContexts();
+
+        assertSame(otherCreationContext, cbcoraCache.getCreationContext(CBCORA_URL, VERSION, TIMESTAMP, RUN_ID, network, () -> otherCreationContext));
+    }
+
+    private static FbConstraintCreationContext mockCreationContext(final boolean successful) {
+        final FbConstraintCreationContext creationContext = Mockito.mock(FbConstraintCreationContext.class);
+        when(creationContext.isCreationSuccessful()).thenReturn(successful);
+        return creationContext;
+    }
+
+    private static Network mockNetwork(final String id) {
+        final Network mockedNetwork = Mockito.mock(Network.class);
+        when(mockedNetwork.getId()).thenReturn(id);
+        return mockedNetwork;
+    }
+}
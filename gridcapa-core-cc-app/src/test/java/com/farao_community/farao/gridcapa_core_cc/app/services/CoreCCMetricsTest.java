@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.HourlyRaoResult;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.InternalCoreCCRequest;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CoreCCMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoreCCMetrics coreCCMetrics = new CoreCCMetrics(meterRegistry);
+
+    @Test
+    void successfulStageIsRecorded() {
+        final String result = coreCCMetrics.record(CoreCCMetrics.Stage.UCT_IMPORT, () -> "network");
+
+        assertEquals("network", result);
+        assertEquals(1, findStageTimer("uct-import", CoreCCMetrics.SUCCESS, CoreCCMetrics.NO_ERROR).count());
+    }
+
+    @Test
+    void failedStageIsRecordedWithExceptionCode() {
+        final CoreCCInvalidDataException failure = new CoreCCInvalidDataException("Invalid CBCORA");
+
+        final CoreCCInvalidDataException exception = assertThrows(CoreCCInvalidDataException.class,
+            () -> coreCCMetrics.record(CoreCCMetrics.Stage.CRAC_CREATION, () -> {
+                throw failure;
+            }));
+
+        assertSame(failure, exception);
+        assertEquals(1, findStageTimer("crac-creation", CoreCCMetrics.FAILURE, failure.getCode()).count());
+    }
+
+    @Test
+    void checkedExceptionIsThrownAgain() {
+        final IOException failure = new IOException("Upload failed");
+
+        final IOException exception = assertThrows(IOException.class,
+            () -> coreCCMetrics.record(CoreCCMetrics.Stage.CNE_EXPORT, (CoreCCMetrics.StageRunnable<IOException>) () -> {
+                throw failure;
+            }));
+
+        assertSame(failure, exception);
+        assertEquals(1, findStageTimer("cne-export", CoreCCMetrics.FAILURE, "IOException").count());
+    }
+
+    @Test
+    void failedTaskIsRecordedWithMetadataErrorCode() {
+        final HourlyRaoResult hourlyRaoResult = new HourlyRaoResult("2024-06-25T06:00:00Z");
+        hourlyRaoResult.setStatus(HourlyRaoResult.Status.FAILURE);
+        hourlyRaoResult.setErrorCode(HourlyRaoResult.ErrorCode.RAO_FAILURE);
+        final InternalCoreCCRequest coreCCRequest = Mockito.mock(InternalCoreCCRequest.class);
+        Mockito.when(coreCCRequest.getRequestReceivedInstant()).thenReturn(Instant.now().minusSeconds(60));
+        Mockito.when(coreCCRequest.getHourlyRaoResult()).thenReturn(hourlyRaoResult);
+
+        coreCCMetrics.recordTask(coreCCRequest);
+
+        final Timer timer = meterRegistry.find(CoreCCMetrics.TASK_TIMER)
+            .tag("outcome", CoreCCMetrics.FAILURE)
+            .tag("error_code", "3")
+            .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void taskNotReceivedIsNotRecorded() {
+        coreCCMetrics.recordTask(Mockito.mock(InternalCoreCCRequest.class));
+
+        assertNull(meterRegistry.find(CoreCCMetrics.TASK_TIMER).timer());
+    }
+
+    private Timer findStageTimer(final String stage, final String outcome, final String errorCode) {
+        final Timer timer = meterRegistry.find(CoreCCMetrics.STAGE_TIMER)
+            .tag("stage", stage)
+            .tag("outcome", outcome)
+            .tag("error_code", errorCode)
+            .timer();
+        assertNotNull(timer);
+        return timer;
+    }
+}
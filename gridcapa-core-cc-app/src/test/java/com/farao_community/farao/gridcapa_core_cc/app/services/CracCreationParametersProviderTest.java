@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInternalException;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.CracCreationParametersConfiguration;
+import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
+import com.powsybl.openrao.data.crac.io.fbconstraint.parameters.FbConstraintCracCreationParameters;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class CracCreationParametersProviderTest {
+
+    private static final String PARAMETERS = """
+            {
+              "crac-factory": "CracImplFactory",
+              "ra-usage-limits-per-instant": [ { "instant": "curative", "max-ra": %d } ]
+            }""";
+
+    @TempDir
+    private Path tmpDir;
+
+    private final CbcoraCache cbcoraCache = Mockito.mock(CbcoraCache.class);
+
+    @Test
+    void parametersAreCreatedForEachCall() {
+        final CracCreationParametersProvider provider = new CracCreationParametersProvider(new CracCreationParametersConfiguration(""), cbcoraCache);
+        final OffsetDateTime timestamp = OffsetDateTime.parse("2021-07-22T22:30Z");
+
+        final CracCreationParameters parameters = provider.getFbConstraintCracCreationParameters(timestamp);
+        final CracCreationParameters otherParameters = provider.getCracCreationParameters();
+
+        // Parameters are mutable: callers never share them
+        assertNotSame(parameters, provider.getFbConstraintCracCreationParameters(timestamp));
+        assertNotSame(otherParameters, provider.getCracCreationParameters());
+        assertEquals(timestamp, parameters.getExtension(FbConstraintCracCreationParameters.class).getTimestamp());
+        assertNull(otherParameters.getExtension(FbConstraintCracCreationParameters.class));
+        assertNull(provider.getCracCreationParameters().getExtension(FbConstraintCracCreationParameters.class));
+        assertEquals(2147483647, otherParameters.getRaUsageLimitsPerInstant().get("curative").getMaxRa());
+    }
+
+    @Test
+    void externalFileIsReadAgainWhenModified() throws IOException {
+        final Path file = writeParameters(3, "2021-07-22T10:00:00Z");
+        final CracCreationParametersProvider provider = new CracCreationParametersProvider(new CracCreationParametersConfiguration(file.toString()), cbcoraCache);
+        assertEquals(3, provider.getCracCreationParameters().getRaUsageLimitsPerInstant().get("curative").getMaxRa());
+
+        writeParameters(5, "2021-07-22T11:00:00Z");
+
+        assertEquals(5, provider.getCracCreationParameters().getRaUsageLimitsPerInstant().get("curative").getMaxRa());
+        verify(cbcoraCache).clearCreationContexts();
+    }
+
+    @Test
+    void timestampParametersAreCreatedAgainWhenExternalFileIsModified() throws IOException {
+        final Path file = writeParameters(3, "2021-07-22T10:00:00Z");
+        final CracCreationParametersProvider provider = new CracCreationParametersProvider(new CracCreationParametersConfiguration(file.toString()), cbcoraCache);
+        final OffsetDateTime timestamp = OffsetDateTime.parse("2021-07-22T22:30Z");
+        provider.getFbConstraintCracCreationParameters(timestamp);
+
+        writeParameters(5, "2021-07-22T11:00:00Z");
+
+        assertEquals(5, provider.getFbConstraintCracCreationParameters(timestamp).getRaUsageLimitsPerInstant().get("curative").getMaxRa());
+    }
+
+    @Test
+    void invalidModificationOfExternalFileIsIgnored() throws IOException {
+        final Path file = writeParameters(3, "2021-07-22T10:00:00Z");
+        final CracCreationParametersProvider provider = new CracCreationParametersProvider(new CracCreationParametersConfiguration(file.toString()), cbcoraCache);
+
+        Files.writeString(file, "{ invalid");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2021-07-22T11:00:00Z")));
+
+        assertEquals(3, provider.getCracCreationParameters().getRaUsageLimitsPerInstant().get("curative").getMaxRa());
+        verify(cbcoraCache, never()).clearCreationContexts();
+    }
+
+    @Test
+    void invalidExternalFileIsRejectedAtStartup() throws IOException {
+        final Path file = Files.writeString(tmpDir.resolve("invalid.json"), "{ invalid");
+        final CracCreationParametersConfiguration configuration = new CracCreationParametersConfiguration(file.toString());
+
+        assertThrows(CoreCCInternalException.class, () -> new CracCreationParametersProvider(configuration, cbcoraCache));
+    }
+
+    private Path writeParameters(final int maxRa, final String lastModifiedTime) throws IOException {
+        final Path file = Files.writeString(tmpDir.resolve("cracCreationParameters.json"), String.format(PARAMETERS, maxRa));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse(lastModifiedTime)));
+        return file;
+    }
+}
@@ -7,7 +7,9 @@
 
 package com.farao_community.farao.gridcapa_core_cc.app.services;
 
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCFileResource;
+import com.farao_community.farao.gridcapa_core_cc.app.entities.CgmsAndXmlHeader;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
@@ -20,12 +22,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
@@ -54,12 +63,26 @@ class FileImporterTest {
         final InputStream networkStream = getClass().getResourceAsStream(testDirectory + "/20210723_0030_2D5_CGM.uct");
         final Network network = Network.read("20210723_0030_2D5_CGM.uct", networkStream);
         final CoreCCFileResource cbcoraFile = createFileResource("cbcora", getClass().getResource(testDirectory + "/20210723-F301_CBCORA_hvdcvh-outage.xml"));
-        final FbConstraintCreationContext fbConstraintCreationContext = fileImporter.importCrac(cbcoraFile.getUrl(), dateTime, network);
+        final FbConstraintCreationContext fbConstraintCreationContext = fileImporter.importCrac(cbcoraFile.getUrl(), dateTime, network, "runId");
         final Crac crac = fbConstraintCreationContext.getCrac();
         Assertions.assertNotNull(crac);
         assertEquals("17XTSO-CS------W-20190108-F301v1", crac.getId());
     }
 
+    @Test
+    void importCgmsZipOfOneInstant() throws IOException {
+        final CoreCCFileResource cgmsFile = createFileResource("cgms", getClass().getResource(testDirectory + "/20210723-F119-v1-17XTSO-CS------W-to-22XCORESO------S.zip"));
+        final CgmsAndXmlHeader cgmsAndXmlHeader = fileImporter.importCgmsZip(cgmsFile, dateTime.toInstant());
+        final Path networkPath = cgmsAndXmlHeader.getNetworkPath(dateTime.toInstant());
+        assertEquals("20210722_2330_2D1_UC5_F100_CORESO.uct", networkPath.getFileName().toString());
+        // Only the CGM of the instant is extracted from the zip, and the zip itself is not kept
+        try (Stream<Path> extractedFiles = Files.walk(networkPath.getParent().getParent())) {
+            assertEquals(List.of(networkPath), extractedFiles.filter(Files::isRegularFile).toList());
+        }
+        final Instant otherInstant = Instant.parse("2021-07-22T23:30:00Z");
+        assertThrows(CoreCCInvalidDataException.class, () -> cgmsAndXmlHeader.getNetworkPath(otherInstant));
+    }
+
     @Test
     void cracCreationParameters() {
         final CracCreationParameters parameters = fileImporter.getCimCracCreationParameters();
@@ -82,7 +105,7 @@ class FileImporterTest {
         final InputStream networkStream = getClass().getResourceAsStream(testDirectory + "/20210723_0030_2D5_CGM.uct");
         final Network network = Network.read("20210723_0030_2D5_CGM.uct", networkStream);
         final CoreCCFileResource cbcoraFile = createFileResource("cbcora", getClass().getResource(testDirectory + "/20210723-F301_CBCORA_hvdcvh-outage.xml"));
-        final FbConstraintCreationContext fbConstraintCreationContext = fileImporter.importCrac(cbcoraFile.getUrl(), dateTime, network);
+        final FbConstraintCreationContext fbConstraintCreationContext = fileImporter.importCrac(cbcoraFile.getUrl(), dateTime, network, "runId");
         final Crac crac = fbConstraintCreationContext.getCrac();
 
         final RaoResult raoResult = fileImporter.importRaoResult(raoResultUrl, crac);
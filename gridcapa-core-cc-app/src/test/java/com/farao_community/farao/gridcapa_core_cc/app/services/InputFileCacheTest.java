@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.InputFileCacheConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InputFileCacheTest {
+
+    @TempDir
+    private Path tmpDir;
+    private final UrlValidationService urlValidationService = Mockito.mock(UrlValidationService.class);
+    private Path inputFile;
+    private String inputUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        inputFile = Files.writeString(tmpDir.resolve("input.xml"), "first version");
+        Files.setLastModifiedTime(inputFile, FileTime.from(Instant.parse("2021-07-22T10:00:00Z")));
+        inputUrl = inputFile.toUri().toURL().toString();
+        when(urlValidationService.openUrlConnection(anyString()))
+                .thenAnswer(invocation -> new URI(invocation.getArgument(0, String.class)).toURL().openConnection());
+    }
+
+    @Test
+    void fileIsReadFromCacheWhenNotModified() throws IOException {
+        final InputFileCache inputFileCache = new InputFileCache(urlValidationService, createConfiguration(10));
+
+        assertEquals("first version", read(inputFileCache, inputUrl));
+        // Only the version of the file is checked on the server, its content is read from the cache
+        Files.writeString(inputFile, "other content");
+        Files.setLastModifiedTime(inputFile, FileTime.from(Instant.parse("2021-07-22T10:00:00Z")));
+
+        assertEquals("first version", read(inputFileCache, inputUrl));
+        assertEquals(1, countCachedFiles());
+    }
+
+    @Test
+    void fileIsDownloadedAgainWhenModified() throws IOException {
+        final InputFileCache inputFileCache = new InputFileCache(urlValidationService, createConfiguration(10));
+
+        assertEquals("first version", read(inputFileCache, inputUrl));
+        Files.writeString(inputFile, "second version");
+        Files.setLastModifiedTime(inputFile, FileTime.from(Instant.parse("2021-07-22T11:00:00Z")));
+
+        assertEquals("second version", read(inputFileCache, inputUrl));
+    }
+
+    @Test
+    void leastRecentlyUsedFileIsEvictedWhenCacheIsFull() throws IOException {
+        final InputFileCache inputFileCache = new InputFileCache(urlValidationService, createConfiguration(0));
+        final Path otherFile = Files.writeString(tmpDir.resolve("other.xml"), "other file");
+
+        read(inputFileCache, inputUrl);
+        read(inputFileCache, otherFile.toUri().toURL().toString());
+
+        assertEquals(1, countCachedFiles());
+    }
+
+    @Test
+    void cachedFileIsReadWithoutBeingCopied() throws IOException {
+        final InputFileCache inputFileCache = new InputFileCache(urlValidationService, createConfiguration(10));
+
+        final Path readPath = inputFileCache.readFile(inputUrl, path -> {
+            assertEquals("first version", Files.readString(path));
+            return path;
+        });
+
+        assertEquals(tmpDir.resolve("cache"), readPath.getParent());
+        assertEquals("first version", read(inputFileCache, inputUrl));
+        assertEquals(1, countCachedFiles());
+    }
+
+    @Test
+    void versionedFileIsOnlyReadWhenOpened() throws IOException {
+        final InputFileCache inputFileCache = new InputFileCache(urlValidationService, createConfiguration(10));
+        final String version = Long.toString(Instant.parse("2021-07-22T10:00:00Z").toEpochMilli());
+
+        try (InputFileCache.VersionedFile versionedFile = inputFileCache.openVersionedFile(inputUrl)) {
+            assertEquals(version, versionedFile.getVersion());
+        }
+        // Content was not needed, so the file was not downloaded to the cache
+        assertTrue(Files.notExists(tmpDir.resolve("cache")));
+
+        try (InputFileCache.VersionedFile versionedFile = inputFileCache.openVersionedFile(inputUrl);
+             InputStream inputStream = versionedFile.openStream()) {
+            assertEquals("first version", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(1, countCachedFiles());
+        verify(urlValidationService, times(2)).openUrlConnection(inputUrl);
+    }
+
+    @Test
+    void partiallyDownloadedFileIsDeleted() throws IOException {
+        final InputFileCache inputFileCache = new InputFileCache(urlValidationService, createConfiguration(10));
+        final URLConnection connection = Mockito.mock(URLConnection.class);
+        when(connection.getHeaderField("ETag")).thenReturn("\"etag\"");
+        when(connection.getInputStream()).thenReturn(new SequenceInputStream(
+                new ByteArrayInputStream("partial content".getBytes(StandardCharsets.UTF_8)),
+                new FailingInputStream()));
+        when(urlValidationService.openUrlConnection(inputUrl)).thenReturn(connection);
+
+        assertThrows(CoreCCInvalidDataException.class, () -> inputFileCache.openUrlStream(inputUrl));
+        assertEquals(0, countCachedFiles());
+    }
+
+    private static final class FailingInputStream extends InputStream {
+        @Override
+        public int read() throws IOException {
+            throw new IOException("Connection reset");
+        }
+    }
+
+    private String read(final InputFileCache inputFileCache, final String url) throws IOException {
+        try (InputStream inputStream = inputFileCache.openUrlStream(url)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private long countCachedFiles() throws IOException {
+        try (Stream<Path> cachedFiles = Files.list(tmpDir.resolve("cache"))) {
+            return cachedFiles.count();
+        }
+    }
+
+    private InputFileCacheConfiguration createConfiguration(final long maxSizeInMb) {
+        return new InputFileCacheConfiguration(tmpDir.resolve("cache").toString(), maxSizeInMb);
+    }
+}
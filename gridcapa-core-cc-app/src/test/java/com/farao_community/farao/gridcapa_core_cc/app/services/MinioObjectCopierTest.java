@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapterProperties;
+import io.minio.CopyObjectArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.ByteArrayInputStream;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MinioObjectCopierTest {
+
+    private static final String RAO_RESULT_URL = "http://minio:9000/gridcapa/CORE/CC/RAO_WORKING_DIR/raoResult.json?X-Amz-Signature=abc";
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2021-07-22T22:30Z");
+
+    private final MinioClient minioClient = Mockito.mock(MinioClient.class);
+    private final MinioAdapterProperties minioAdapterProperties = Mockito.mock(MinioAdapterProperties.class);
+    private final ObjectProvider<MinioClient> minioClientProvider = Mockito.mock(ObjectProvider.class);
+    private MinioObjectCopier minioObjectCopier;
+
+    @BeforeEach
+    void setUp() {
+        when(minioAdapterProperties.getUrl()).thenReturn("http://minio:9000");
+        when(minioAdapterProperties.getBucket()).thenReturn("gridcapa");
+        when(minioAdapterProperties.getBasePath()).thenReturn("CORE/CC");
+        when(minioClientProvider.getIfAvailable()).thenReturn(minioClient);
+        minioObjectCopier = new MinioObjectCopier(minioAdapterProperties, minioClientProvider);
+    }
+
+    @Test
+    void objectOfSameBucketIsCopiedAsOutput() throws Exception {
+        assertTrue(minioObjectCopier.copyOutputForTimestamp(RAO_RESULT_URL, "results/raoResult.json", "CORE_CC", "RAO_RESULT", TIMESTAMP));
+
+        final ArgumentCaptor<CopyObjectArgs> copyObjectArgs = ArgumentCaptor.forClass(CopyObjectArgs.class);
+        verify(minioClient).copyObject(copyObjectArgs.capture());
+        assertEquals("gridcapa", copyObjectArgs.getValue().bucket());
+        assertEquals("CORE/CC/results/raoResult.json", copyObjectArgs.getValue().object());
+        assertEquals("CORE/CC/RAO_WORKING_DIR/raoResult.json", copyObjectArgs.getValue().source().object());
+        // Upload of MinioAdapter is only recorded, nothing is sent to MinIO
+        verify(minioClient, never()).putObject(any());
+    }
+
+    @Test
+    void copiedOutputGetsSameMetadataAsUploadedOutput() throws Exception {
+        final MinioClient uploadMinioClient = Mockito.mock(MinioClient.class);
+        final MinioAdapter minioAdapter = new MinioAdapter(minioAdapterProperties, uploadMinioClient);
+        minioAdapter.uploadOutputForTimestamp("results/raoResult.json", new ByteArrayInputStream(new byte[0]), "CORE_CC", "RAO_RESULT", TIMESTAMP);
+        final ArgumentCaptor<PutObjectArgs> putObjectArgs = ArgumentCaptor.forClass(PutObjectArgs.class);
+        verify(uploadMinioClient).putObject(putObjectArgs.capture());
+
+        minioObjectCopier.copyOutputForTimestamp(RAO_RESULT_URL, "results/raoResult.json", "CORE_CC", "RAO_RESULT", TIMESTAMP);
+        final ArgumentCaptor<CopyObjectArgs> copyObjectArgs = ArgumentCaptor.forClass(CopyObjectArgs.class);
+        verify(minioClient).copyObject(copyObjectArgs.capture());
+
+        // Metadata keys and validity interval format are those of MinioAdapter, copied outputs must follow them
+        assertEquals(putObjectArgs.getValue().userMetadata(), copyObjectArgs.getValue().userMetadata());
+        assertEquals(putObjectArgs.getValue().object(), copyObjectArgs.getValue().object());
+    }
+
+    @Test
+    void objectOfOtherServerOrBucketIsNotFound() {
+        assertEquals(Optional.of("CORE/CC/RAO_WORKING_DIR/raoResult.json"), minioObjectCopier.getObjectInBucket(RAO_RESULT_URL));
+        assertTrue(minioObjectCopier.getObjectInBucket("http://other-minio:9000/gridcapa/raoResult.json").isEmpty());
+        assertTrue(minioObjectCopier.getObjectInBucket("http://minio:9001/gridcapa/raoResult.json").isEmpty());
+        assertTrue(minioObjectCopier.getObjectInBucket("http://minio:9000/other-bucket/raoResult.json").isEmpty());
+        assertTrue(minioObjectCopier.getObjectInBucket("raoResult.json").isEmpty());
+    }
+
+    @Test
+    void failedCopyFallsBackToUpload() throws Exception {
+        when(minioClient.copyObject(any())).thenThrow(new IllegalStateException("Access denied"));
+
+        assertFalse(minioObjectCopier.copyOutputForTimestamp(RAO_RESULT_URL, "results/raoResult.json", "CORE_CC", "RAO_RESULT", TIMESTAMP));
+    }
+}
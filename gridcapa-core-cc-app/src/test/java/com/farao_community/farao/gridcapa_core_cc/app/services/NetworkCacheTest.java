@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.app.services;
+
+import com.farao_community.farao.gridcapa_core_cc.app.configuration.NetworkCacheConfiguration;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NetworkCacheTest {
+
+    private static final String NETWORK_FILE_URL = "RAO_WORKING_DIR/20240625_0800/inputs/networks/20240625_0600.xiidm";
+    private static final String OTHER_NETWORK_FILE_URL = "RAO_WORKING_DIR/20240625_0900/inputs/networks/20240625_0700.xiidm";
+
+    private final Network network = Mockito.mock(Network.class);
+
+    @Test
+    void networkIsKeptUntilReleased() {
+        final NetworkCache networkCache = new NetworkCache(createConfiguration());
+        networkCache.put(NETWORK_FILE_URL, network);
+
+        assertEquals(Optional.of(network), networkCache.get(NETWORK_FILE_URL));
+        networkCache.release(NETWORK_FILE_URL);
+        assertTrue(networkCache.get(NETWORK_FILE_URL).isEmpty());
+    }
+
+    @Test
+    void oldestNetworkIsEvictedWhenCacheIsFull() {
+        final NetworkCache networkCache = new NetworkCache(createConfiguration());
+        final Network otherNetwork = Mockito.mock(Network.class);
+        networkCache.put(NETWORK_FILE_URL, network);
+        networkCache.put(OTHER_NETWORK_FILE_URL, otherNetwork);
+
+        assertTrue(networkCache.get(NETWORK_FILE_URL).isEmpty());
+        assertEquals(Optional.of(otherNetwork), networkCache.get(OTHER_NETWORK_FILE_URL));
+    }
+
+    private static NetworkCacheConfiguration createConfiguration() {
+        return new NetworkCacheConfiguration(1);
+    }
+}
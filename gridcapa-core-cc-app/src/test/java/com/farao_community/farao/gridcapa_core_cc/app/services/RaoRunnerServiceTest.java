@@ -8,14 +8,22 @@
 package com.farao_community.farao.gridcapa_core_cc.app.services;
 
 import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCRaoException;
+import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoFailureResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import com.farao_community.farao.rao_runner.starter.AsynchronousRaoRunnerClient;
 import com.farao_community.farao.rao_runner.starter.RaoRunnerClient;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.amqp.core.AmqpReplyTimeoutException;
+import org.springframework.amqp.core.Message;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -35,7 +43,7 @@ class RaoRunnerServiceTest {
         Mockito.when(raoResponse.getId()).thenReturn("id");
         RaoRunnerClient raoRunnerClient = Mockito.mock(RaoRunnerClient.class);
         Mockito.when(raoRunnerClient.runRao(Mockito.any())).thenReturn(raoResponse);
-        raoRunnerService = new RaoRunnerService(raoRunnerClient);
+        raoRunnerService = new RaoRunnerService(raoRunnerClient, Mockito.mock(AsynchronousRaoRunnerClient.class));
 
         RaoSuccessResponse retrievedRaoResponse = raoRunnerService.run(raoRequest);
 
@@ -47,8 +55,50 @@ class RaoRunnerServiceTest {
         RaoRunnerClient badRaoRunnerClient = Mockito.mock(RaoRunnerClient.class);
         final RaoFailureResponse failureResponse = new RaoFailureResponse.Builder().withErrorMessage("error").build();
         Mockito.when(badRaoRunnerClient.runRao(Mockito.any())).thenReturn(failureResponse);
-        raoRunnerService = new RaoRunnerService(badRaoRunnerClient);
+        raoRunnerService = new RaoRunnerService(badRaoRunnerClient, Mockito.mock(AsynchronousRaoRunnerClient.class));
         CoreCCRaoException coreCCRaoException = assertThrows(CoreCCRaoException.class, () -> raoRunnerService.run(raoRequest));
         assertEquals("RAO run failed: error", coreCCRaoException.getMessage());
     }
+
+    @Test
+    void runRaoAsynchronously() {
+        raoRequest = Mockito.mock(RaoRequest.class);
+        RaoSuccessResponse raoResponse = Mockito.mock(RaoSuccessResponse.class);
+        Mockito.when(raoResponse.getId()).thenReturn("id");
+        AsynchronousRaoRunnerClient asynchronousRaoRunnerClient = Mockito.mock(AsynchronousRaoRunnerClient.class);
+        Mockito.when(asynchronousRaoRunnerClient.runRaoAsynchronously(Mockito.any())).thenReturn(CompletableFuture.<AbstractRaoResponse>completedFuture(raoResponse));
+        raoRunnerService = new RaoRunnerService(Mockito.mock(RaoRunnerClient.class), asynchronousRaoRunnerClient);
+
+        RaoSuccessResponse retrievedRaoResponse = raoRunnerService.runAsync(raoRequest).join();
+
+        assertEquals("id", retrievedRaoResponse.getId());
+    }
+
+    @Test
+    void errorWhileRunningRaoAsynchronously() {
+        AsynchronousRaoRunnerClient asynchronousRaoRunnerClient = Mockito.mock(AsynchronousRaoRunnerClient.class);
+        final AbstractRaoResponse failureResponse = new RaoFailureResponse.Builder().withErrorMessage("error").build();
+        Mockito.when(asynchronousRaoRunnerClient.runRaoAsynchronously(Mockito.any())).thenReturn(CompletableFuture.completedFuture(failureResponse));
+        raoRunnerService = new RaoRunnerService(Mockito.mock(RaoRunnerClient.class), asynchronousRaoRunnerClient);
+
+        CompletableFuture<RaoSuccessResponse> raoResponseFuture = raoRunnerService.runAsync(raoRequest);
+
+        CompletionException completionException = assertThrows(CompletionException.class, raoResponseFuture::join);
+        assertInstanceOf(CoreCCRaoException.class, completionException.getCause());
+        assertEquals("RAO run failed: error", completionException.getCause().getMessage());
+    }
+
+    @Test
+    void timeoutWhileRunningRaoAsynchronously() {
+        AsynchronousRaoRunnerClient asynchronousRaoRunnerClient = Mockito.mock(AsynchronousRaoRunnerClient.class);
+        final AmqpReplyTimeoutException timeoutException = new AmqpReplyTimeoutException("Timeout", new Message("reply".getBytes()));
+        Mockito.when(asynchronousRaoRunnerClient.runRaoAsynchronously(Mockito.any())).thenReturn(CompletableFuture.<AbstractRaoResponse>failedFuture(timeoutException));
+        raoRunnerService = new RaoRunnerService(Mockito.mock(RaoRunnerClient.class), asynchronousRaoRunnerClient);
+
+        CompletableFuture<RaoSuccessResponse> raoResponseFuture = raoRunnerService.runAsync(raoRequest);
+
+        CompletionException completionException = assertThrows(CompletionException.class, raoResponseFuture::join);
+        assertInstanceOf(CoreCCRaoException.class, completionException.getCause());
+        assertInstanceOf(AmqpReplyTimeoutException.class, completionException.getCause().getCause());
+    }
 }
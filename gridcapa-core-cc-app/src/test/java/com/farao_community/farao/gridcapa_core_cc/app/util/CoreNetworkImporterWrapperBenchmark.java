@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.util;
+
+import com.powsybl.iidm.network.DanglingLine;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Core CC normalization done by {@link CoreNetworkImporterWrapper#loadNetwork(Path)}: it is compared with
+ * a plain {@link Network#read(Path)} of the same file, the difference being the normalization cost.
+ * The network is synthetic, shaped like a UCTE Core CGM: about ten thousand buses over twelve countries, a third of
+ * them with a generator, half of them with a load, and tie lines on borders. It is written once as XIIDM, which keeps
+ * the UCTE nominal voltages to normalize.
+ * <p>
+ * Not run by surefire: launch the main method from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CoreNetworkImporterWrapperBenchmark {
+
+    private static final String[] COUNTRIES = {"A", "B", "C", "D", "F", "H", "J", "L", "N", "O", "R", "Z"};
+    private static final int SUBSTATIONS_PER_COUNTRY = 200;
+    private static final int BUSES_PER_VOLTAGE_LEVEL = 2;
+    private static final int TIE_LINES_PER_BORDER = 25;
+    private static final double[] UCTE_NOMINAL_VOLTAGES = {380, 220};
+
+    private Path networkPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        networkPath = Files.createTempFile("synthetic-core", ".xiidm");
+        NetworkSerDe.write(createCoreSizedNetwork(), networkPath);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(networkPath);
+    }
+
+    @Benchmark
+    public Network loadAndNormalize() {
+        return CoreNetworkImporterWrapper.loadNetwork(networkPath);
+    }
+
+    @Benchmark
+    public Network loadOnly() {
+        return Network.read(networkPath);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CoreNetworkImporterWrapperBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private static Network createCoreSizedNetwork() {
+        Network network = Network.create("synthetic-core", "UCTE");
+        int busIndex = 0;
+        for (String country : COUNTRIES) {
+            for (int substationIndex = 0; substationIndex < SUBSTATIONS_PER_COUNTRY; substationIndex++) {
+                Substation substation = network.newSubstation().setId(country + substationIndex).add();
+                for (double nominalV : UCTE_NOMINAL_VOLTAGES) {
+                    VoltageLevel voltageLevel = substation.newVoltageLevel()
+                            .setId(voltageLevelId(country, substationIndex, nominalV))
+                            .setNominalV(nominalV)
+                            .setTopologyKind(TopologyKind.BUS_BREAKER)
+                            .add();
+                    for (int i = 0; i < BUSES_PER_VOLTAGE_LEVEL; i++) {
+                        String busId = busId(country, substationIndex, nominalV, i);
+                        voltageLevel.getBusBreakerView().newBus().setId(busId).add();
+                        if (busIndex % 3 == 0) {
+                            voltageLevel.newGenerator().setId(busId + "_generator").setBus(busId).setConnectableBus(busId)
+                                    .setMinP(0).setMaxP(1000).setTargetP(100).setTargetV(nominalV).setVoltageRegulatorOn(true).add();
+                        }
+                        if (busIndex % 2 == 0) {
+                            voltageLevel.newLoad().setId(busId + "_load").setBus(busId).setConnectableBus(busId)
+                                    .setP0(50).setQ0(0).add();
+                        }
+                        busIndex++;
+                    }
+                    if (substationIndex > 0) {
+                        network.newLine().setId(busId(country, substationIndex - 1, nominalV, 0) + " " + busId(country, substationIndex, nominalV, 0))
+                                .setVoltageLevel1(voltageLevelId(country, substationIndex - 1, nominalV)).setBus1(busId(country, substationIndex - 1, nominalV, 0))
+                                .setVoltageLevel2(voltageLevel.getId()).setBus2(busId(country, substationIndex, nominalV, 0))
+                                .setR(1).setX(10).setG1(0).setB1(0).setG2(0).setB2(0).add();
+                    }
+                }
+            }
+        }
+        for (int countryIndex = 1; countryIndex < COUNTRIES.length; countryIndex++) {
+            for (int i = 0; i < TIE_LINES_PER_BORDER; i++) {
+                String xnode = "X" + countryIndex + "_" + i;
+                DanglingLine danglingLine1 = createDanglingLine(network, COUNTRIES[countryIndex - 1], i, xnode);
+                DanglingLine danglingLine2 = createDanglingLine(network, COUNTRIES[countryIndex], i, xnode);
+                network.newTieLine().setId(danglingLine1.getId() + " + " + danglingLine2.getId())
+                        .setDanglingLine1(danglingLine1.getId()).setDanglingLine2(danglingLine2.getId()).add();
+                if (i % 10 == 0) {
+                    danglingLine2.getTerminal().disconnect();
+                }
+            }
+        }
+        return network;
+    }
+
+    private static DanglingLine createDanglingLine(Network network, String country, int substationIndex, String xnode) {
+        String busId = busId(country, substationIndex, 380, 1);
+        return network.getVoltageLevel(voltageLevelId(country, substationIndex, 380)).newDanglingLine()
+                .setId(busId + " " + xnode).setBus(busId).setConnectableBus(busId).setPairingKey(xnode)
+                .setR(0.5).setX(5).setG(0).setB(0).setP0(0).setQ0(0).add();
+    }
+
+    private static String voltageLevelId(String country, int substationIndex, double nominalV) {
+        return country + substationIndex + "_" + (int) nominalV;
+    }
+
+    private static String busId(String country, int substationIndex, double nominalV, int busIndex) {
+        return voltageLevelId(country, substationIndex, nominalV) + "_" + busIndex;
+    }
+}
@@ -49,5 +49,11 @@ class CoreNetworkImporterWrapperTest {
         assertEquals(0, load.get().getP0(), 1e-3);
         assertEquals(0, load.get().getQ0(), 1e-3);
         assertEquals(LoadType.FICTITIOUS, load.get().getLoadType());
+
+        // existing generators and loads are kept, only missing ones are created
+        network.getBusBreakerView().getBusStream().forEach(bus -> {
+            assertEquals(1, bus.getGeneratorStream().count());
+            assertEquals(1, bus.getLoadStream().count());
+        });
     }
 }
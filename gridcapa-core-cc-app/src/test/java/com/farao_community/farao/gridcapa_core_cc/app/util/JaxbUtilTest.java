@@ -8,6 +8,7 @@
 package com.farao_community.farao.gridcapa_core_cc.app.util;
 
 import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInternalException;
+import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlElement;
@@ -16,12 +17,18 @@ import jakarta.xml.bind.annotation.XmlType;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import javax.xml.namespace.QName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Thomas Bouquet {@literal <thomas.bouquet at rte-france.com>}
@@ -80,4 +87,32 @@ class JaxbUtilTest {
         });
         assertEquals("Error occurred when converting InputStream to object of type java.lang.String", coreCCInternalException.getMessage());
     }
+
+    @Test
+    void marshalAndUnmarshalContent() {
+        JaxbUtil.warmUp(BasicCity.class);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JAXBElement<BasicCity> element = new JAXBElement<>(new QName("BasicCity"), BasicCity.class, new BasicCity(69000, "Lyon"));
+        JaxbUtil.marshalContent(BasicCity.class, element, outputStream);
+        for (int i = 0; i < 3; i++) {
+            BasicCity unmarshaledContent = JaxbUtil.unmarshalContent(BasicCity.class, new ByteArrayInputStream(outputStream.toByteArray()));
+            assertEquals(69000, unmarshaledContent.getZipCode());
+            assertEquals("Lyon", unmarshaledContent.getName());
+        }
+    }
+
+    @Test
+    void marshalContentDeclaringXsiKeepsRootUnprefixed() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JAXBElement<BasicCity> element = new JAXBElement<>(new QName("BasicCity"), BasicCity.class, new BasicCity(69000, "Lyon"));
+        JaxbUtil.marshalContentDeclaringXsi(BasicCity.class, element, outputStream);
+        String xml = outputStream.toString(StandardCharsets.UTF_8);
+        assertTrue(xml.contains("<BasicCity xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">"));
+        assertEquals("Lyon", JaxbUtil.unmarshalContent(BasicCity.class, new ByteArrayInputStream(outputStream.toByteArray())).getName());
+    }
+
+    @Test
+    void warmUpSeveralTimes() {
+        assertDoesNotThrow(() -> JaxbUtil.warmUp(BasicCity.class, BasicCity.class));
+    }
 }
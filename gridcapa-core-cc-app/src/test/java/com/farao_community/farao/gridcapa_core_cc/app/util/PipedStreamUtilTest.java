@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PipedStreamUtilTest {
+
+    @Test
+    void contentLargerThanPipeIsUploaded() throws IOException {
+        final byte[] content = new byte[3 * 1024 * 1024 + 17];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        final AtomicReference<byte[]> uploadedContent = new AtomicReference<>();
+
+        PipedStreamUtil.upload(outputStream -> outputStream.write(content), inputStream -> {
+            try {
+                uploadedContent.set(inputStream.readAllBytes());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        assertArrayEquals(content, uploadedContent.get());
+    }
+
+    @Test
+    void writingFailureFailsUploadInsteadOfTruncatingIt() {
+        final AtomicReference<Exception> uploadFailure = new AtomicReference<>();
+
+        final IOException exception = assertThrows(IOException.class, () -> PipedStreamUtil.upload(outputStream -> {
+            outputStream.write(new byte[]{1, 2, 3});
+            throw new IllegalStateException("Serialization failed");
+        }, inputStream -> {
+            try {
+                inputStream.readAllBytes();
+            } catch (final IOException e) {
+                uploadFailure.set(e);
+            }
+        }));
+
+        assertEquals("Serialization failed", exception.getCause().getMessage());
+        assertInstanceOf(IOException.class, uploadFailure.get());
+    }
+
+    @Test
+    void uploadFailureDoesNotBlockWriter() {
+        final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> PipedStreamUtil.upload(
+            outputStream -> outputStream.write(new byte[4 * 1024 * 1024]),
+            inputStream -> {
+                throw new IllegalStateException("Upload failed");
+            }));
+
+        assertEquals("Upload failed", exception.getMessage());
+    }
+}
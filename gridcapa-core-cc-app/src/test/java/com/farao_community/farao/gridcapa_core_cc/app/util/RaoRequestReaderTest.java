@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.gridcapa_core_cc.app.util;
+
+import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RaoRequestReaderTest {
+
+    private static final String RAO_REQUEST = "/20210723/20210723-F302-v3.xml";
+
+    @Test
+    void readHeaderAndMatchingRequestItemOnly() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(RAO_REQUEST)) {
+            final RequestMessage requestMessage = RaoRequestReader.readRequestMessage(inputStream, Instant.parse("2021-07-22T23:30:00Z"));
+
+            assertEquals("e880ff7e-8d81-4f89-86b0-e3276e9d9476", requestMessage.getHeader().getCorrelationID());
+            assertTrue(requestMessage.getHeader().getProperty().stream().anyMatch(property -> "PST_RA_Min_impact".equals(property.getName())));
+            assertEquals("2021-07-22T22:00:00Z/2021-07-23T22:00:00Z", requestMessage.getPayload().getRequestItems().getTimeInterval());
+            assertEquals(1, requestMessage.getPayload().getRequestItems().getRequestItem().size());
+            assertEquals("2021-07-22T23:00Z/2021-07-23T00:00Z", requestMessage.getPayload().getRequestItems().getRequestItem().get(0).getTimeInterval());
+        }
+    }
+
+    @Test
+    void readRequestWithoutMatchingRequestItem() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(RAO_REQUEST)) {
+            final RequestMessage requestMessage = RaoRequestReader.readRequestMessage(inputStream, Instant.parse("2021-07-25T23:30:00Z"));
+
+            assertEquals("e880ff7e-8d81-4f89-86b0-e3276e9d9476", requestMessage.getHeader().getCorrelationID());
+            assertTrue(requestMessage.getPayload().getRequestItems().getRequestItem().isEmpty());
+        }
+    }
+
+    @Test
+    void errorWhenReadingInvalidXml() {
+        final InputStream inputStream = new ByteArrayInputStream("<RequestMessage><Header>".getBytes());
+        final Instant instant = Instant.parse("2021-07-22T23:30:00Z");
+        assertThrows(CoreCCInvalidDataException.class, () -> RaoRequestReader.readRequestMessage(inputStream, instant));
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_core_cc.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UploadBufferTest {
+
+    @Test
+    void inputStreamReadsOnlyWrittenBytes() throws IOException {
+        final UploadBuffer buffer = new UploadBuffer();
+        buffer.write(new byte[]{1, 2, 3, 4, 5});
+
+        try (InputStream inputStream = buffer.toInputStream()) {
+            assertEquals(5, inputStream.available());
+            assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void emptyBufferGivesEmptyInputStream() throws IOException {
+        try (UploadBuffer buffer = new UploadBuffer(); InputStream inputStream = buffer.toInputStream()) {
+            assertEquals(0, inputStream.readAllBytes().length);
+        }
+    }
+}